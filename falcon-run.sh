@@ -0,0 +1,35 @@
+#!/bin/bash
+# Thin client for the test daemon (start it with: mvn test-compile exec:java -Ptest-daemon)
+# Usage: ./falcon-run.sh <suite.xml | Class | Class#method[,...]> [key=value ...]
+#        ./falcon-run.sh --stop
+# Recompile changed tests with "mvn -q test-compile" first; the daemon reloads them on every run.
+
+PORT=${TEST_DAEMON_PORT:-4460}
+
+if [ -z "$1" ]; then
+    echo "Usage: $0 <suite.xml | Class | Class#method[,...]> [key=value ...]"
+    echo "       $0 --stop"
+    exit 2
+fi
+
+if ! exec 3<>"/dev/tcp/127.0.0.1/$PORT" 2>/dev/null; then
+    echo "Error: no test daemon on port $PORT"
+    echo "Start it with: mvn test-compile exec:java -Ptest-daemon"
+    exit 1
+fi
+
+if [ "$1" = "--stop" ]; then
+    echo "stop" >&3
+else
+    echo "run $*" >&3
+fi
+
+STATUS=1
+while IFS= read -r line <&3; do
+    case "$line" in
+        "EXIT "*) STATUS=${line#EXIT } ;;
+        *) echo "$line" ;;
+    esac
+done
+exec 3<&-
+exit "$STATUS"
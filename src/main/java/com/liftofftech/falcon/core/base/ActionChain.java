@@ -0,0 +1,385 @@
+package com.liftofftech.falcon.core.base;
+
+import com.liftofftech.falcon.core.config.FrameworkConfig;
+import com.liftofftech.falcon.core.driver.XPathToCss;
+import com.liftofftech.falcon.core.reporting.ExecutionMetrics;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * A sequence of locator-based actions and checks built fluently from a page, e.g.
+ * <pre>
+ * page.chain()
+ *     .waitVisible(SEARCH_INPUT)
+ *     .type(SEARCH_INPUT, "mountains")
+ *     .click(SEARCH_BUTTON)
+ *     .waitInvisible(SPINNER)
+ *     .expectText(RESULT_COUNT, "12 results")
+ *     .run();
+ * </pre>
+ * Consecutive steps that can run inside the page are compiled into one script and executed
+ * with a single {@code executeAsyncScript} round trip; each waits for its element (visible,
+ * and enabled for clicks) before acting. Steps that need trusted input events
+ * ({@link #typeKeys}, {@link #clickTrusted}), or use locators without a DOM equivalent,
+ * run one by one through WebDriver between the batches. With {@code action.chain.batch=false}
+ * every step runs through WebDriver.
+ * <p>
+ * Script steps dispatch synthetic events: {@code type} sets the value through the native
+ * setter and fires {@code input}/{@code change}, {@code click} calls {@code element.click()}.
+ * A batch ends after each {@code click}, which may navigate: when the document unloads under
+ * the batch, the click counts as done and later steps run in a new batch on the next page.
+ * If a batch fails any other way (script timeout, JavaScript error), the step it had reached
+ * is reported as failed.
+ */
+public final class ActionChain {
+
+    private static final String RUNTIME =
+        "const steps = arguments[0], deadline = Date.now() + arguments[1], done = arguments[arguments.length - 1];" +
+        "const find = l => l.using === 'css selector' ? document.querySelector(l.value)" +
+        "  : document.evaluate(l.value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;" +
+        "const visible = e => { if (!e || !e.isConnected) return false; const s = getComputedStyle(e);" +
+        "  if (s.visibility === 'hidden' || s.display === 'none' || Number(s.opacity) === 0) return false;" +
+        "  const r = e.getBoundingClientRect(); return r.width > 0 && r.height > 0; };" +
+        "const until = (cond, timeout) => new Promise(resolve => {" +
+        "  const end = Math.min(Date.now() + timeout, deadline);" +
+        "  const tick = () => { let v = null; try { v = cond(); } catch (x) { v = null; }" +
+        "    if (v) resolve(v); else if (Date.now() >= end) resolve(null); else setTimeout(tick, 50); };" +
+        "  tick(); });" +
+        "const setValue = (e, text) => { e.focus(); const d = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(e), 'value');" +
+        "  if (d && d.set) { d.set.call(e, text); } else { e.textContent = text; }" +
+        "  e.dispatchEvent(new Event('input', { bubbles: true })); e.dispatchEvent(new Event('change', { bubbles: true })); };" +
+        "(async () => { const results = [];" +
+        "  for (let i = 0; i < steps.length; i++) { const s = steps[i], start = performance.now(); let error = null;" +
+        "    window.__falconChainStep = i;" +
+        "    try { let e;" +
+        "      switch (s.op) {" +
+        "        case 'waitVisible': if (!await until(() => visible(find(s.locator)), s.timeoutMs)) error = 'not visible'; break;" +
+        "        case 'waitClickable': if (!await until(() => { const x = find(s.locator); return visible(x) && !x.disabled; }, s.timeoutMs)) error = 'not clickable'; break;" +
+        "        case 'waitInvisible': if (!await until(() => !visible(find(s.locator)), s.timeoutMs)) error = 'still visible'; break;" +
+        "        case 'clear': e = await until(() => visible(find(s.locator)) && find(s.locator), s.timeoutMs);" +
+        "          if (e) setValue(e, ''); else error = 'not visible'; break;" +
+        "        case 'type': e = await until(() => visible(find(s.locator)) && find(s.locator), s.timeoutMs);" +
+        "          if (e) setValue(e, s.text); else error = 'not visible'; break;" +
+        "        case 'click': e = await until(() => { const x = find(s.locator); return visible(x) && !x.disabled && x; }, s.timeoutMs);" +
+        "          if (e) { e.scrollIntoView({ block: 'center' }); e.click(); } else error = 'not clickable'; break;" +
+        "        case 'expectText': if (!await until(() => { const x = find(s.locator); return visible(x) && x.innerText.trim() === s.text; }, s.timeoutMs))" +
+        "          error = 'text was \"' + ((find(s.locator) || {}).innerText || '').trim() + '\"'; break;" +
+        "        default: error = 'unknown step ' + s.op; }" +
+        "    } catch (x) { error = String(x); }" +
+        "    results.push({ error: error, ms: performance.now() - start });" +
+        "    if (error) break; }" +
+        "  delete window.__falconChainStep; done(results); })();";
+
+    private static final String PROGRESS =
+        "return typeof window.__falconChainStep === 'number' ? window.__falconChainStep : null;";
+
+    private final BasePage page;
+    private final List<Step> steps = new ArrayList<>();
+
+    ActionChain(BasePage page) {
+        this.page = page;
+    }
+
+    /**
+     * Waits until the element is visible.
+     */
+    public ActionChain waitVisible(By locator) {
+        return add("waitVisible", locator, null, () -> page.waitUntilVisible(locator));
+    }
+
+    /**
+     * Waits until the element is visible and enabled.
+     */
+    public ActionChain waitClickable(By locator) {
+        return add("waitClickable", locator, null, () -> page.waitUntilClickable(locator));
+    }
+
+    /**
+     * Waits until the element is hidden or gone.
+     */
+    public ActionChain waitInvisible(By locator) {
+        return add("waitInvisible", locator, null,
+            () -> page.wait.until(ExpectedConditions.invisibilityOfElementLocated(XPathToCss.effective(locator))));
+    }
+
+    /**
+     * Clears the element's value.
+     */
+    public ActionChain clear(By locator) {
+        return add("clear", locator, null, () -> page.waitUntilVisible(locator).clear());
+    }
+
+    /**
+     * Replaces the element's value, firing {@code input} and {@code change}.
+     */
+    public ActionChain type(By locator, String text) {
+        return add("type", locator, text, () -> page.type(locator, text));
+    }
+
+    /**
+     * Clicks the element once it is visible and enabled.
+     */
+    public ActionChain click(By locator) {
+        return add("click", locator, null, () -> page.click(locator));
+    }
+
+    /**
+     * Waits until the element's visible text equals the expected text.
+     */
+    public ActionChain expectText(By locator, String text) {
+        return add("expectText", locator, text,
+            () -> page.wait.until(ExpectedConditions.textToBe(XPathToCss.effective(locator), text)));
+    }
+
+    /**
+     * Types with real keyboard events through WebDriver, for inputs that ignore synthetic ones.
+     */
+    public ActionChain typeKeys(By locator, String text) {
+        steps.add(new Step("typeKeys", locator, text, null, () -> page.type(locator, text)));
+        return this;
+    }
+
+    /**
+     * Clicks with a real pointer event through WebDriver, for handlers that check {@code isTrusted}.
+     */
+    public ActionChain clickTrusted(By locator) {
+        steps.add(new Step("clickTrusted", locator, null, null, () -> page.click(locator)));
+        return this;
+    }
+
+    /**
+     * Runs every step in order and stops at the first failure.
+     *
+     * @return per-step results
+     * @throws WebDriverException if a step failed; the message lists every step's outcome
+     */
+    public Result run() {
+        List<StepResult> results = new ArrayList<>();
+        boolean batch = FrameworkConfig.actionChainBatch();
+        int index = 0;
+        while (index < steps.size()) {
+            Step step = steps.get(index);
+            if (batch && step.script != null) {
+                int end = index;
+                while (end < steps.size() && steps.get(end).script != null) {
+                    end++;
+                    if ("click".equals(steps.get(end - 1).op)) {
+                        // The click may navigate, which would lose the rest of the batch
+                        break;
+                    }
+                }
+                List<Step> segment = steps.subList(index, end);
+                results.addAll(runScript(segment));
+                index = end;
+            } else {
+                results.add(runStep(step));
+                index++;
+            }
+            if (!results.get(results.size() - 1).passed()) {
+                break;
+            }
+        }
+        Result result = new Result(results, steps.size());
+        if (!result.passed()) {
+            throw new WebDriverException("Action chain failed:\n" + result);
+        }
+        return result;
+    }
+
+    private ActionChain add(String op, By locator, String text, Runnable fallback) {
+        Map<String, Object> script = null;
+        if (locator instanceof By.Remotable) {
+            By.Remotable.Parameters parameters = ((By.Remotable) XPathToCss.effective(locator)).getRemoteParameters();
+            if (parameters.using().equals("css selector") || parameters.using().equals("xpath")) {
+                script = new LinkedHashMap<>();
+                script.put("op", op);
+                script.put("locator", Map.of("using", parameters.using(), "value", String.valueOf(parameters.value())));
+                script.put("timeoutMs", FrameworkConfig.pageLoadTimeout().toMillis());
+                if (text != null) {
+                    script.put("text", text);
+                }
+            }
+        }
+        steps.add(new Step(op, locator, text, script, fallback));
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<StepResult> runScript(List<Step> segment) {
+        long budget = FrameworkConfig.scriptTimeout().minusSeconds(2).toMillis();
+        long start = System.nanoTime();
+        Object raw;
+        try {
+            raw = ((JavascriptExecutor) page.driver).executeAsyncScript(RUNTIME,
+                segment.stream().map(step -> step.script).collect(Collectors.toList()), budget);
+        } catch (WebDriverException e) {
+            return interrupted(segment, e, (System.nanoTime() - start) / 1_000_000.0);
+        } finally {
+            ExecutionMetrics.recordTime("action.chain.batch", System.nanoTime() - start);
+        }
+
+        List<Map<String, Object>> outcomes = (List<Map<String, Object>>) raw;
+        List<StepResult> results = new ArrayList<>();
+        for (int i = 0; i < outcomes.size(); i++) {
+            Map<String, Object> outcome = outcomes.get(i);
+            results.add(new StepResult(segment.get(i).toString(), (String) outcome.get("error"),
+                ((Number) outcome.get("ms")).doubleValue(), true));
+        }
+        return results;
+    }
+
+    /**
+     * Reports a batch whose script did not return. A batch can only lose its page through its
+     * final click, so an unloaded document means the click went through. Otherwise the step
+     * the page had reached failed; the steps before it passed.
+     */
+    private List<StepResult> interrupted(List<Step> segment, WebDriverException e, double millis) {
+        String error = e.getClass().getSimpleName() + ": " + String.valueOf(e.getMessage()).split("\n")[0];
+        Step last = segment.get(segment.size() - 1);
+        boolean navigated = "click".equals(last.op) && error.contains("document unloaded");
+        int reached = navigated ? segment.size() - 1 : Math.min(progress(), segment.size() - 1);
+        List<StepResult> results = new ArrayList<>();
+        for (int i = 0; i < reached; i++) {
+            results.add(new StepResult(segment.get(i).toString(), null, 0, true));
+        }
+        results.add(new StepResult(segment.get(reached).toString(), navigated ? null : error, millis, true));
+        return results;
+    }
+
+    /**
+     * Returns the index of the step the batch script had reached, or 0 if the page cannot tell.
+     */
+    private int progress() {
+        try {
+            Object step = ((JavascriptExecutor) page.driver).executeScript(PROGRESS);
+            return step instanceof Number ? ((Number) step).intValue() : 0;
+        } catch (WebDriverException e) {
+            return 0;
+        }
+    }
+
+    private StepResult runStep(Step step) {
+        long start = System.nanoTime();
+        String error = null;
+        try {
+            step.fallback.run();
+        } catch (WebDriverException e) {
+            error = e.getClass().getSimpleName() + ": " + String.valueOf(e.getMessage()).split("\n")[0];
+        }
+        return new StepResult(step.toString(), error, (System.nanoTime() - start) / 1_000_000.0, false);
+    }
+
+    private static final class Step {
+
+        private final String op;
+        private final By locator;
+        private final String text;
+        private final Map<String, Object> script;
+        private final Runnable fallback;
+
+        private Step(String op, By locator, String text, Map<String, Object> script, Runnable fallback) {
+            this.op = op;
+            this.locator = locator;
+            this.text = text;
+            this.script = script;
+            this.fallback = fallback;
+        }
+
+        @Override
+        public String toString() {
+            return op + "(" + locator + (text == null ? "" : ", \"" + text + "\"") + ")";
+        }
+    }
+
+    /**
+     * Outcome of one step.
+     */
+    public static final class StepResult {
+
+        private final String step;
+        private final String error;
+        private final double millis;
+        private final boolean batched;
+
+        StepResult(String step, String error, double millis, boolean batched) {
+            this.step = step;
+            this.error = error;
+            this.millis = millis;
+            this.batched = batched;
+        }
+
+        public String step() {
+            return step;
+        }
+
+        public boolean passed() {
+            return error == null;
+        }
+
+        /**
+         * Returns why the step failed, or null if it passed.
+         */
+        public String error() {
+            return error;
+        }
+
+        public double millis() {
+            return millis;
+        }
+
+        /**
+         * Returns whether the step ran inside the page script rather than through WebDriver.
+         */
+        public boolean batched() {
+            return batched;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%s %s %.1f ms%s%s", passed() ? "PASS" : "FAIL", step, millis,
+                batched ? " [script]" : " [webdriver]", passed() ? "" : " - " + error);
+        }
+    }
+
+    /**
+     * Outcome of a chain: the results of the steps that ran, in order.
+     */
+    public static final class Result {
+
+        private final List<StepResult> steps;
+        private final int planned;
+
+        Result(List<StepResult> steps, int planned) {
+            this.steps = Collections.unmodifiableList(steps);
+            this.planned = planned;
+        }
+
+        public List<StepResult> steps() {
+            return steps;
+        }
+
+        /**
+         * Returns whether every planned step ran and passed.
+         */
+        public boolean passed() {
+            return steps.size() == planned && steps.stream().allMatch(StepResult::passed);
+        }
+
+        @Override
+        public String toString() {
+            String lines = steps.stream().map(StepResult::toString).collect(Collectors.joining("\n"));
+            int skipped = planned - steps.size();
+            return skipped > 0 ? lines + "\n(" + skipped + " step(s) not run)" : lines;
+        }
+    }
+}
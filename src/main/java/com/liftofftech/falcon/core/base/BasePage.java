@@ -2,7 +2,11 @@ package com.liftofftech.falcon.core.base;
 
 import com.liftofftech.falcon.core.config.FrameworkConfig;
 import com.liftofftech.falcon.core.driver.DriverManager;
+import com.liftofftech.falcon.core.driver.FastReads;
+import com.liftofftech.falcon.core.driver.JsLocator;
 import com.liftofftech.falcon.core.driver.ModuleType;
+import com.liftofftech.falcon.core.driver.RemoteUploads;
+import com.liftofftech.falcon.core.driver.XPathToCss;
 import com.liftofftech.falcon.core.navigation.ModuleNavigator;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
@@ -16,10 +20,14 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 public abstract class BasePage {
 
+    private static final String VIEWPORT_STATE =
+        ViewportState.FUNCTION + "const el = arguments[0] || %s; return !el && arguments[1] ? null : viewportState(el);";
+
     protected final WebDriver driver;
     protected final WebDriverWait wait;
 
@@ -35,7 +43,16 @@ public abstract class BasePage {
      * @param locator the element locator
      */
     public void click(By locator) {
-        waitUntilVisible(locator).click();
+        ElementCache.retry(() -> waitUntilVisible(locator).click());
+    }
+
+    /**
+     * Starts a chain of actions and checks that runs with as few browser round trips as possible.
+     *
+     * @return an empty chain bound to this page's driver
+     */
+    public ActionChain chain() {
+        return new ActionChain(this);
     }
 
     /**
@@ -45,9 +62,11 @@ public abstract class BasePage {
      * @param value the text to type
      */
     public void type(By locator, String value) {
-        WebElement element = waitUntilVisible(locator);
-        element.clear();
-        element.sendKeys(value);
+        ElementCache.retry(() -> {
+            WebElement element = waitUntilVisible(locator);
+            element.clear();
+            element.sendKeys(value);
+        });
     }
 
     /**
@@ -98,26 +117,19 @@ public abstract class BasePage {
 
     /**
      * Pastes text into an element using keyboard shortcuts.
-     * Uses CMD+V on Mac, CTRL+V on other platforms.
+     * Uses CMD+V on Mac, CTRL+V on other platforms. Waits for the clipboard write
+     * to resolve before pasting, and for the element to receive the input afterwards.
      * 
      * @param locator the element locator
      * @param textToPaste the text to paste
+     * @return total time spent waiting for the clipboard and the paste
      */
-    public void pasteText(By locator, String textToPaste) {
+    public Duration pasteText(By locator, String textToPaste) {
         WebElement element = waitUntilVisible(locator);
         element.click(); // Focus the element
         
-        // Set text to clipboard using JavaScript
-        ((JavascriptExecutor) driver).executeScript(
-            "navigator.clipboard.writeText(arguments[0]).catch(err => console.error('Clipboard write failed:', err));",
-            textToPaste);
-        
-        // Wait a moment for clipboard to be set
-        try {
-            Thread.sleep(300);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        // Set text to clipboard and wait for the write to resolve
+        Duration clipboard = PageSignals.writeClipboard(driver, element, textToPaste);
         
         // Use keyboard shortcut to paste
         String os = System.getProperty("os.name").toLowerCase();
@@ -127,12 +139,8 @@ public abstract class BasePage {
             element.sendKeys(Keys.chord(Keys.CONTROL, "v"));
         }
         
-        // Wait for paste to complete
-        try {
-            Thread.sleep(300);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        // Wait for the pasted input to reach the element
+        return clipboard.plus(PageSignals.textApplied(driver, element, textToPaste));
     }
     
 
@@ -144,7 +152,8 @@ public abstract class BasePage {
      * @return the attribute value
      */
     public String getAttribute(By locator, String attribute) {
-        return waitUntilVisible(locator).getAttribute(attribute);
+        return FastReads.attribute(driver, locator, attribute)
+            .orElseGet(() -> ElementCache.retry(() -> waitUntilVisible(locator).getAttribute(attribute)));
     }
 
     /**
@@ -154,7 +163,8 @@ public abstract class BasePage {
      * @return the visible text
      */
     public String getText(By locator) {
-        return waitUntilVisible(locator).getText();
+        return FastReads.text(driver, locator)
+            .orElseGet(() -> ElementCache.retry(() -> waitUntilVisible(locator).getText()));
     }
 
     /**
@@ -164,7 +174,8 @@ public abstract class BasePage {
      * @return true if element is displayed
      */
     public boolean isDisplayed(By locator) {
-        return waitUntilVisible(locator).isDisplayed();
+        return FastReads.displayed(driver, locator)
+            .orElseGet(() -> ElementCache.retry(() -> waitUntilVisible(locator).isDisplayed()));
     }
 
     /**
@@ -174,37 +185,39 @@ public abstract class BasePage {
      * @return the visible WebElement
      */
     public WebElement waitUntilVisible(By locator) {
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return ElementCache.lookup(driver, locator, ElementCache.Require.VISIBLE)
+            .orElseGet(() -> wait.until(ExpectedConditions.visibilityOfElementLocated(XPathToCss.effective(locator))));
     }
 
     /**
      * Scrolls to element using JavaScript.
-     * Uses scrollIntoView with smooth behavior.
+     * Uses scrollIntoView with smooth behavior and waits for the scroll to end.
+     *
+     * @return how long the scroll took to settle
      */
-    public void scrollToElement(By locator) {
+    public Duration scrollToElement(By locator) {
         WebElement element = waitUntilPresent(locator);
-        ((JavascriptExecutor) driver).executeScript(
-            "arguments[0].scrollIntoView({behavior: 'smooth', block: 'center', inline: 'nearest'});", element);
-        // Small wait for scroll animation
-        try { Thread.sleep(300); } catch (InterruptedException ignored) {}
+        return PageSignals.scroll(driver, PageSignals.SCROLL_INTO_VIEW, element, 0);
     }
 
     /**
      * Scrolls to element by moving it to viewport center using coordinate calculation.
      * More reliable for elements that scrollIntoView doesn't work with.
+     *
+     * @return how long the scroll took to settle
      */
-    public void scrollToElementByCoordinates(By locator) {
+    public Duration scrollToElementByCoordinates(By locator) {
         WebElement element = waitUntilPresent(locator);
-        int yOffset = element.getLocation().getY() - (driver.manage().window().getSize().getHeight() / 2);
-        ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, " + yOffset + ");");
-        try { Thread.sleep(300); } catch (InterruptedException ignored) {}
+        return PageSignals.scroll(driver, PageSignals.SCROLL_TO_CENTER, element, 0);
     }
 
     /**
-     * Scrolls down by specified pixels.
+     * Scrolls down by specified pixels and waits for the scroll to end.
+     *
+     * @return how long the scroll took to settle
      */
-    public void scrollByPixels(int pixels) {
-        ((JavascriptExecutor) driver).executeScript("window.scrollBy(0, " + pixels + ");");
+    public Duration scrollByPixels(int pixels) {
+        return PageSignals.scroll(driver, PageSignals.SCROLL_WINDOW_BY, null, pixels);
     }
 
     /**
@@ -213,7 +226,8 @@ public abstract class BasePage {
      * @return the current scroll position in pixels
      */
     public long getScrollPosition() {
-        return (Long) ((JavascriptExecutor) driver).executeScript("return window.pageYOffset || document.documentElement.scrollTop || document.body.scrollTop || 0;");
+        return FastReads.number(driver, ViewportState.SCROLL_Y)
+            .orElseGet(() -> (Long) ((JavascriptExecutor) driver).executeScript("return " + ViewportState.SCROLL_Y + ";"));
     }
 
     /**
@@ -222,10 +236,8 @@ public abstract class BasePage {
      * @return the maximum scroll position in pixels
      */
     public long getMaxScrollHeight() {
-        return (Long) ((JavascriptExecutor) driver).executeScript(
-            "return Math.max(document.body.scrollHeight, document.body.offsetHeight, " +
-            "document.documentElement.clientHeight, document.documentElement.scrollHeight, " +
-            "document.documentElement.offsetHeight) - window.innerHeight;");
+        return FastReads.number(driver, ViewportState.MAX_SCROLL_Y)
+            .orElseGet(() -> (Long) ((JavascriptExecutor) driver).executeScript("return " + ViewportState.MAX_SCROLL_Y + ";"));
     }
 
     /**
@@ -235,9 +247,11 @@ public abstract class BasePage {
      * @return the current scroll position of the element
      */
     public long getElementScrollPosition(By locator) {
-        WebElement element = waitUntilPresent(locator);
-        return (Long) ((JavascriptExecutor) driver).executeScript(
-            "return arguments[0].scrollTop;", element);
+        return FastReads.elementNumber(driver, locator, "e.scrollTop").orElseGet(() -> {
+            WebElement element = waitUntilPresent(locator);
+            return (Long) ((JavascriptExecutor) driver).executeScript(
+                "return arguments[0].scrollTop;", element);
+        });
     }
 
     /**
@@ -247,9 +261,64 @@ public abstract class BasePage {
      * @return the maximum scroll position of the element
      */
     public long getElementMaxScrollHeight(By locator) {
+        return FastReads.elementNumber(driver, locator, "e.scrollHeight - e.clientHeight").orElseGet(() -> {
+            WebElement element = waitUntilPresent(locator);
+            return (Long) ((JavascriptExecutor) driver).executeScript(
+                "return arguments[0].scrollHeight - arguments[0].clientHeight;", element);
+        });
+    }
+
+    /**
+     * Reads the window's scroll geometry and viewport size in one call.
+     * 
+     * @return the current viewport state
+     */
+    public ViewportState getViewportState() {
+        return ViewportState.from(((JavascriptExecutor) driver).executeScript(String.format(VIEWPORT_STATE, "null"), null, false));
+    }
+
+    /**
+     * Reads the window's scroll geometry, viewport size and the scroll metrics of a specific
+     * element (e.g., textarea) in one call, waiting for the element only if it is not there yet.
+     * 
+     * @param locator the scrollable element locator
+     * @return the current viewport state including the element
+     */
+    public ViewportState getViewportState(By locator) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        Optional<String> element = JsLocator.first(locator);
+        Object state = element.isPresent() ? js.executeScript(String.format(VIEWPORT_STATE, element.get()), null, true) : null;
+        if (state == null) {
+            state = js.executeScript(String.format(VIEWPORT_STATE, "null"), waitUntilPresent(locator), true);
+        }
+        return ViewportState.from(state);
+    }
+
+    /**
+     * Scrolls the page step by step until the condition holds, looping inside the browser so
+     * only the final state comes back. Stops early when nothing is left to scroll and no new
+     * content appears, or after {@code scroll.until.max.steps} steps.
+     * 
+     * @param condition when to stop, e.g. {@code ScrollCondition.inViewport(locator)}
+     * @param stepPixels pixels per step (positive = down, negative = up)
+     * @return whether the condition was reached, the step count and the final state
+     */
+    public ScrollResult scrollUntil(ScrollCondition condition, int stepPixels) {
+        return PageSignals.scrollUntil(driver, null, condition, stepPixels);
+    }
+
+    /**
+     * Scrolls a specific element (e.g., a list container) step by step until the condition
+     * holds, looping inside the browser. See {@link #scrollUntil(ScrollCondition, int)}.
+     * 
+     * @param locator the scrollable element locator
+     * @param condition when to stop
+     * @param stepPixels pixels per step (positive = down, negative = up)
+     * @return whether the condition was reached, the step count and the final state
+     */
+    public ScrollResult scrollElementUntil(By locator, ScrollCondition condition, int stepPixels) {
         WebElement element = waitUntilPresent(locator);
-        return (Long) ((JavascriptExecutor) driver).executeScript(
-            "return arguments[0].scrollHeight - arguments[0].clientHeight;", element);
+        return PageSignals.scrollUntil(driver, element, condition, stepPixels);
     }
 
     /**
@@ -257,16 +326,11 @@ public abstract class BasePage {
      * 
      * @param locator the element locator
      * @param pixels the number of pixels to scroll (positive = down, negative = up)
+     * @return how long the scroll took to settle
      */
-    public void scrollElementByPixels(By locator, int pixels) {
+    public Duration scrollElementByPixels(By locator, int pixels) {
         WebElement element = waitUntilPresent(locator);
-        ((JavascriptExecutor) driver).executeScript(
-            "arguments[0].scrollTop += arguments[1];", element, pixels);
-        try {
-            Thread.sleep(200);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        return PageSignals.scroll(driver, PageSignals.SCROLL_ELEMENT_BY, element, pixels);
     }
 
     /**
@@ -276,17 +340,18 @@ public abstract class BasePage {
      * @return true if the element has scrollable content
      */
     public boolean isElementScrollable(By locator) {
-        WebElement element = waitUntilPresent(locator);
-        return (Boolean) ((JavascriptExecutor) driver).executeScript(
-            "return arguments[0].scrollHeight > arguments[0].clientHeight;", element);
+        return ElementCache.retry(() -> (Boolean) ((JavascriptExecutor) driver).executeScript(
+            "return arguments[0].scrollHeight > arguments[0].clientHeight;", waitUntilPresent(locator)));
     }
 
     /**
      * Clicks element using JavaScript (bypasses visibility/overlay issues).
      */
     public void clickUsingJS(By locator) {
-        WebElement element = waitUntilPresent(locator);
-        ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
+        ElementCache.retry(() -> {
+            WebElement element = waitUntilPresent(locator);
+            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
+        });
     }
 
     /**
@@ -317,7 +382,7 @@ public abstract class BasePage {
             ".shadowRoot.querySelector('input[type=\"file\"]');";
         WebElement fileInput = (WebElement) ((JavascriptExecutor) driver).executeScript(script);
         if (fileInput != null) {
-            fileInput.sendKeys(filePath);
+            fileInput.sendKeys(RemoteUploads.pathFor(driver, filePath));
         } else {
             throw new RuntimeException("File input not found in Shadow DOM");
         }
@@ -330,7 +395,8 @@ public abstract class BasePage {
      * @return the clickable WebElement
      */
     public WebElement waitUntilClickable(By locator) {
-        return wait.until(ExpectedConditions.elementToBeClickable(locator));
+        return ElementCache.lookup(driver, locator, ElementCache.Require.CLICKABLE)
+            .orElseGet(() -> wait.until(ExpectedConditions.elementToBeClickable(XPathToCss.effective(locator))));
     }
 
     /**
@@ -340,7 +406,8 @@ public abstract class BasePage {
      * @return the present WebElement
      */
     public WebElement waitUntilPresent(By locator) {
-        return wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        return ElementCache.lookup(driver, locator, ElementCache.Require.PRESENT)
+            .orElseGet(() -> wait.until(ExpectedConditions.presenceOfElementLocated(XPathToCss.effective(locator))));
     }
 
     /**
@@ -357,13 +424,14 @@ public abstract class BasePage {
     /**
      * Uploads a file by sending the file path to a file input element.
      * Does not wait for visibility since file inputs are typically hidden.
+     * On a remote grid the file is sent to the node once per session and reused after that.
      * 
      * @param locator the file input locator
      * @param filePath the absolute path to the file
      */
     public void uploadFile(By locator, String filePath) {
         WebElement fileInput = waitUntilPresent(locator);
-        fileInput.sendKeys(filePath);
+        fileInput.sendKeys(RemoteUploads.pathFor(driver, filePath));
     }
 
     /**
@@ -404,8 +472,8 @@ public abstract class BasePage {
      * @return list of WebElements
      */
     public List<WebElement> getElements(By locator) {
-        wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(locator));
-        return driver.findElements(locator);
+        wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(XPathToCss.effective(locator)));
+        return driver.findElements(XPathToCss.effective(locator));
     }
 
     /**
@@ -415,11 +483,49 @@ public abstract class BasePage {
      * @return list of text strings from all matching elements
      */
     public List<String> getAllTexts(By locator) {
-        return getElements(locator).stream()
-            .map(WebElement::getText)
+        return snapshotAll(locator).stream()
+            .map(ElementSnapshot::text)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets an attribute of all elements matching the locator, read in one script call.
+     * 
+     * @param locator the element locator
+     * @param attribute the attribute name
+     * @return list of attribute values (null where an element has none)
+     */
+    public List<String> getAllAttributes(By locator, String attribute) {
+        return snapshotAll(locator, attribute).stream()
+            .map(snapshot -> snapshot.attribute(attribute))
             .collect(Collectors.toList());
     }
 
+    /**
+     * Captures text, visibility, bounds and the given attributes of all elements matching the
+     * locator with one script call, instead of one round trip per element and property.
+     * Waits for at least one match like {@link #getElements(By)}; link-text locators, which
+     * have no DOM query equivalent, are read element by element.
+     * 
+     * @param locator the element locator
+     * @param attributes attribute names to capture for each element
+     * @return snapshots of the matching elements in document order
+     */
+    public List<ElementSnapshot> snapshotAll(By locator, String... attributes) {
+        List<String> names = List.of(attributes);
+        Optional<List<ElementSnapshot>> snapshots = ElementSnapshot.captureAll(driver, locator, names);
+        if (snapshots.isEmpty()) {
+            return getElements(locator).stream()
+                .map(element -> ElementSnapshot.of(element, names))
+                .collect(Collectors.toList());
+        }
+        if (!snapshots.get().isEmpty()) {
+            return snapshots.get();
+        }
+        wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(XPathToCss.effective(locator)));
+        return ElementSnapshot.captureAll(driver, locator, names).orElseThrow();
+    }
+
     /**
      * Gets the count of elements matching the locator.
      * 
@@ -427,7 +533,7 @@ public abstract class BasePage {
      * @return number of elements found
      */
     public int getElementCount(By locator) {
-        return driver.findElements(locator).size();
+        return FastReads.count(driver, locator).orElseGet(() -> driver.findElements(XPathToCss.effective(locator)).size());
     }
 
     /**
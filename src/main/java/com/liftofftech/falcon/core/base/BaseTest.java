@@ -1,11 +1,9 @@
 package com.liftofftech.falcon.core.base;
 
 import com.liftofftech.falcon.core.config.FrameworkConfig;
-import com.liftofftech.falcon.core.driver.DriverFactory;
 import com.liftofftech.falcon.core.driver.DriverManager;
-import com.liftofftech.falcon.core.driver.PlatformType;
 import com.liftofftech.falcon.core.reporting.AllureAttachments;
-import org.openqa.selenium.WebDriver;
+import com.liftofftech.falcon.core.reporting.BootstrapTimings;
 import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
@@ -14,22 +12,15 @@ public abstract class BaseTest {
 
     @BeforeMethod(alwaysRun = true)
     public void setUp() {
-        // Small delay to prevent resource contention in parallel execution
-        try {
-            Thread.sleep(100 * Thread.currentThread().getId() % 3);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        
-        WebDriver driver = DriverFactory.createDriver();
-        DriverManager.setDriver(driver);
-        driver.manage().timeouts().implicitlyWait(FrameworkConfig.implicitWait());
-        driver.manage().timeouts().pageLoadTimeout(FrameworkConfig.pageLoadTimeout());
+        // Concurrent launches are throttled by LaunchAdmissionController inside DriverFactory.
+        // Timeouts and window size arrive as launch capabilities (BrowserCapabilities),
+        // so no further round trips are needed before navigation.
+        BootstrapTimings.begin();
+        long start = System.nanoTime();
+        DriverManager.initDriver();
+        BootstrapTimings.record("session.create",
+                System.nanoTime() - start - BootstrapTimings.recorded("driver.spawn"));
 
-        if (FrameworkConfig.platform() == PlatformType.DWEB) {
-            driver.manage().window().maximize();
-        }
-        
         // Navigate to base URL - module tests should override this method to skip navigation
         // and handle their own module-specific navigation
         navigateToBaseUrl();
@@ -40,7 +31,9 @@ public abstract class BaseTest {
      * and handle their own module-specific navigation instead.
      */
     protected void navigateToBaseUrl() {
+        long start = System.nanoTime();
         DriverManager.getDriver().get(FrameworkConfig.baseUrl());
+        BootstrapTimings.record("first.navigation", System.nanoTime() - start);
     }
 
     @AfterMethod(alwaysRun = true)
@@ -56,9 +49,10 @@ public abstract class BaseTest {
                 }
             }
         } finally {
-            // Always cleanup driver, even if screenshot fails
+            // Always cleanup driver, even if screenshot fails.
+            // Pooled sessions used by a failed test are retired rather than reused.
             try {
-         DriverManager.unload();
+         DriverManager.unload(!result.isSuccess());
             } catch (Exception e) {
                 // Ignore cleanup errors - driver may already be closed
                 System.err.println("Driver cleanup warning: " + e.getMessage());
@@ -0,0 +1,134 @@
+package com.liftofftech.falcon.core.base;
+
+import com.liftofftech.falcon.core.config.FrameworkConfig;
+import com.liftofftech.falcon.core.driver.JsLocator;
+import com.liftofftech.falcon.core.reporting.ExecutionMetrics;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Reuses elements resolved for a locator instead of evaluating the locator again on every
+ * {@code BasePage} action. The cache lives in the page ({@code window.__falconElements}), so
+ * it is per session and per document: a navigation or reload starts empty, and a pooled
+ * session never sees elements of an earlier test. A single {@code MutationObserver} on the
+ * document counts mutation generations; an entry is only handed out while no mutation has
+ * happened anywhere in the document since it was resolved, so changes to its ancestors and
+ * siblings (e.g. {@code [aria-expanded="true"] li}) invalidate it just like changes to the
+ * element itself. Otherwise the locator is resolved afresh. The observer only bumps a counter,
+ * so pages pay next to nothing between lookups.
+ * <p>
+ * A lookup is one script call that returns the cached element, or resolves and caches it,
+ * and checks the wait condition in the same call. When the element is not there yet (or not
+ * visible/enabled) the caller falls back to its usual {@code WebDriverWait}. Elements that go
+ * stale between the lookup and the action are resolved once more through {@link #retry}.
+ * <p>
+ * Used when {@code element.cache.enabled=true}, for CSS and XPath locators alike; expensive
+ * XPath such as {@code //*[contains(text(),...)]} benefits the most on pages that sit still.
+ * Reports {@code element.cache.hit}, {@code .miss}, {@code .hit.rate} and {@code .stale.retry}.
+ */
+final class ElementCache {
+
+    /**
+     * What the element has to satisfy to be handed out.
+     */
+    enum Require {
+        PRESENT,
+        VISIBLE,
+        CLICKABLE
+    }
+
+    private static final String LOOKUP =
+        "const key = arguments[0], require = arguments[1];" +
+        "let cache = window.__falconElements;" +
+        "if (!cache) { cache = window.__falconElements = { generation: 0, entries: new Map() };" +
+        "  cache.observer = new MutationObserver(() => cache.generation++);" +
+        "  cache.observer.observe(document, { subtree: true, childList: true, attributes: true, characterData: true }); }" +
+        "if (cache.observer.takeRecords().length) cache.generation++;" +
+        "const entry = cache.entries.get(key);" +
+        "let e = entry && entry.generation === cache.generation && entry.element.isConnected ? entry.element : null;" +
+        "const hit = !!e;" +
+        "if (!e) { e = %s; if (e) cache.entries.set(key, { element: e, generation: cache.generation });" +
+        "  else cache.entries.delete(key); }" +
+        "if (!e) return [null, false];" +
+        "if (require !== 'PRESENT') { const s = getComputedStyle(e), r = e.getBoundingClientRect();" +
+        "  if (s.visibility === 'hidden' || s.display === 'none' || Number(s.opacity) === 0" +
+        "    || r.width === 0 || r.height === 0) return [null, false]; }" +
+        "if (require === 'CLICKABLE' && e.disabled) return [null, false];" +
+        "return [e, hit];";
+
+    static {
+        ExecutionMetrics.gauge("element.cache.hit.rate", () -> {
+            long hits = ExecutionMetrics.count("element.cache.hit");
+            long total = hits + ExecutionMetrics.count("element.cache.miss");
+            return total == 0 ? 0.0 : (double) hits / total;
+        });
+    }
+
+    private ElementCache() {
+        // utility
+    }
+
+    static boolean enabled() {
+        return FrameworkConfig.elementCacheEnabled();
+    }
+
+    /**
+     * Returns the cached or freshly resolved element if it already satisfies the requirement;
+     * empty when the caller has to wait for it (or the locator cannot be cached).
+     */
+    @SuppressWarnings("unchecked")
+    static Optional<WebElement> lookup(WebDriver driver, By locator, Require require) {
+        if (!enabled()) {
+            return Optional.empty();
+        }
+        Optional<String> first = JsLocator.first(locator);
+        if (first.isEmpty()) {
+            return Optional.empty();
+        }
+        List<Object> result;
+        try {
+            result = (List<Object>) ((JavascriptExecutor) driver)
+                .executeScript(String.format(LOOKUP, first.get()), locator.toString(), require.name());
+        } catch (WebDriverException e) {
+            // e.g. a page that forbids script or is mid-navigation; WebDriver will resolve it
+            ExecutionMetrics.increment("element.cache.miss");
+            return Optional.empty();
+        }
+        ExecutionMetrics.increment(Boolean.TRUE.equals(result.get(1)) ? "element.cache.hit" : "element.cache.miss");
+        return Optional.ofNullable((WebElement) result.get(0));
+    }
+
+    /**
+     * Runs an action on a resolved element and, if the element went stale in between,
+     * resolves it once more and runs the action again. Without the cache the action runs once.
+     */
+    static <T> T retry(Supplier<T> action) {
+        if (!enabled()) {
+            return action.get();
+        }
+        try {
+            return action.get();
+        } catch (StaleElementReferenceException e) {
+            ExecutionMetrics.increment("element.cache.stale.retry");
+            return action.get();
+        }
+    }
+
+    /**
+     * Same as {@link #retry(Supplier)} for actions without a result.
+     */
+    static void retry(Runnable action) {
+        retry(() -> {
+            action.run();
+            return null;
+        });
+    }
+}
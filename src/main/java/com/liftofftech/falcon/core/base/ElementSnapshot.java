@@ -0,0 +1,131 @@
+package com.liftofftech.falcon.core.base;
+
+import com.liftofftech.falcon.core.driver.JsLocator;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Read-only state of one element, captured together with every other element matching the
+ * same locator by a single script, instead of one WebDriver round trip per element and property.
+ * Text follows {@code getText()} loosely: the trimmed rendered text of visible elements and
+ * an empty string for hidden ones. Attributes follow {@code getAttribute()}: the property when
+ * it is a plain value, otherwise the attribute, or null.
+ */
+public final class ElementSnapshot {
+
+    private static final String SCRIPT =
+        "const names = arguments[0];" +
+        "const visible = e => { if (!e.isConnected) return false; const s = getComputedStyle(e);" +
+        "  if (s.visibility === 'hidden' || s.display === 'none' || Number(s.opacity) === 0) return false;" +
+        "  const r = e.getBoundingClientRect(); return r.width > 0 && r.height > 0; };" +
+        "const attribute = (e, n) => { const p = e[n]; if (typeof p === 'boolean') return p ? 'true' : null;" +
+        "  if (p !== undefined && p !== null && typeof p !== 'object' && typeof p !== 'function') return String(p);" +
+        "  return e.getAttribute(n); };" +
+        "return %s.map(e => { const r = e.getBoundingClientRect(), v = visible(e);" +
+        "  return [v ? e.innerText.trim() : '', v," +
+        "    [Math.round(r.left + window.scrollX), Math.round(r.top + window.scrollY), Math.round(r.width), Math.round(r.height)]," +
+        "    names.map(n => attribute(e, n))]; });";
+
+    private final String text;
+    private final boolean visible;
+    private final Rectangle bounds;
+    private final Map<String, String> attributes;
+
+    ElementSnapshot(String text, boolean visible, Rectangle bounds, Map<String, String> attributes) {
+        this.text = text;
+        this.visible = visible;
+        this.bounds = bounds;
+        this.attributes = Collections.unmodifiableMap(attributes);
+    }
+
+    /**
+     * Captures every element matching the locator in one script call.
+     *
+     * @param attributes attribute names to read for each element
+     * @return the snapshots in document order, or empty for locators without a DOM equivalent
+     */
+    @SuppressWarnings("unchecked")
+    static Optional<List<ElementSnapshot>> captureAll(WebDriver driver, By locator, List<String> attributes) {
+        Optional<String> elements = JsLocator.all(locator);
+        if (elements.isEmpty()) {
+            return Optional.empty();
+        }
+        List<List<Object>> rows = (List<List<Object>>) ((JavascriptExecutor) driver)
+            .executeScript(String.format(SCRIPT, elements.get()), attributes);
+        List<ElementSnapshot> snapshots = new ArrayList<>(rows.size());
+        for (List<Object> row : rows) {
+            List<Object> box = (List<Object>) row.get(2);
+            List<Object> values = (List<Object>) row.get(3);
+            Map<String, String> byName = new LinkedHashMap<>();
+            for (int i = 0; i < attributes.size(); i++) {
+                byName.put(attributes.get(i), (String) values.get(i));
+            }
+            snapshots.add(new ElementSnapshot((String) row.get(0), (Boolean) row.get(1),
+                new Rectangle(intAt(box, 0), intAt(box, 1), intAt(box, 3), intAt(box, 2)), byName));
+        }
+        return Optional.of(snapshots);
+    }
+
+    /**
+     * Captures one element through WebDriver, a round trip per property, for locators
+     * {@link #captureAll} cannot run in the page.
+     */
+    static ElementSnapshot of(WebElement element, List<String> attributes) {
+        Map<String, String> byName = new LinkedHashMap<>();
+        for (String name : attributes) {
+            byName.put(name, element.getAttribute(name));
+        }
+        return new ElementSnapshot(element.getText().trim(), element.isDisplayed(), element.getRect(), byName);
+    }
+
+    private static int intAt(List<Object> values, int index) {
+        return ((Number) values.get(index)).intValue();
+    }
+
+    public String text() {
+        return text;
+    }
+
+    public boolean visible() {
+        return visible;
+    }
+
+    /**
+     * Returns the element's position in the page (not the viewport) and its size, in CSS pixels.
+     */
+    public Rectangle bounds() {
+        return bounds;
+    }
+
+    /**
+     * Returns a requested attribute, or null if the element has none by that name.
+     *
+     * @throws IllegalArgumentException if the attribute was not requested when capturing
+     */
+    public String attribute(String name) {
+        if (!attributes.containsKey(name)) {
+            throw new IllegalArgumentException("Attribute '" + name + "' was not captured; captured: " + attributes.keySet());
+        }
+        return attributes.get(name);
+    }
+
+    public Map<String, String> attributes() {
+        return attributes;
+    }
+
+    @Override
+    public String toString() {
+        return "ElementSnapshot{text='" + text + "', visible=" + visible + ", bounds=" + bounds.getPoint()
+            + " " + bounds.getDimension() + ", attributes=" + attributes + "}";
+    }
+}
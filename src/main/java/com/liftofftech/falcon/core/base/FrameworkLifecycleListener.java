@@ -0,0 +1,101 @@
+package com.liftofftech.falcon.core.base;
+
+import com.liftofftech.falcon.core.config.FrameworkConfig;
+import com.liftofftech.falcon.core.driver.BrowserContextManager;
+import com.liftofftech.falcon.core.driver.DriverPool;
+import com.liftofftech.falcon.core.driver.DriverServiceRegistry;
+import com.liftofftech.falcon.core.driver.ExecutionMode;
+import com.liftofftech.falcon.core.driver.ProcessReaper;
+import com.liftofftech.falcon.core.driver.XvfbDisplayPool;
+import com.liftofftech.falcon.core.grid.EmbeddedGrid;
+import com.liftofftech.falcon.core.grid.EmbeddedGridMode;
+import com.liftofftech.falcon.core.grid.GridMonitor;
+import com.liftofftech.falcon.core.reporting.BootstrapTimings;
+import com.liftofftech.falcon.core.reporting.ExecutionMetrics;
+import org.testng.IExecutionListener;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+/**
+ * TestNG listener that owns run-scoped framework resources: it reaps processes left
+ * by earlier runs, starts the embedded grid and warms shared browser sessions when
+ * the run starts, releases them (and kills anything they left behind) when it
+ * finishes and reports the collected execution metrics. Session bootstrap timings are attached
+ * to each test's Allure result while the test is still open.
+ * <p>
+ * Inside the test daemon ({@code test.daemon=true}) these resources outlive a single run:
+ * the daemon acquires them once and releases them when it stops, and each run only
+ * reports its metrics.
+ */
+public class FrameworkLifecycleListener implements IExecutionListener, IInvokedMethodListener {
+
+    @Override
+    public void onExecutionStart() {
+        if (!FrameworkConfig.testDaemon()) {
+            acquireResources();
+        }
+    }
+
+    @Override
+    public void onExecutionFinish() {
+        try {
+            if (!FrameworkConfig.testDaemon()) {
+                releaseResources();
+            }
+        } finally {
+            ExecutionMetrics.report();
+        }
+    }
+
+    /**
+     * Reaps leftovers of earlier runs, starts the embedded grid and warms pooled sessions.
+     */
+    public static void acquireResources() {
+        ProcessReaper.sweepStaleRuns();
+        if (FrameworkConfig.remoteExecution()) {
+            if (FrameworkConfig.gridEmbeddedMode() != EmbeddedGridMode.NONE) {
+                EmbeddedGrid.start();
+            }
+            GridMonitor.start(FrameworkConfig.gridUrls());
+        }
+        if (XvfbDisplayPool.enabled() && FrameworkConfig.xvfbPrestart()) {
+            XvfbDisplayPool.prestart(FrameworkConfig.xvfbPoolSize());
+        }
+        if (FrameworkConfig.executionMode() == ExecutionMode.PROCESS
+                && FrameworkConfig.driverPoolEnabled() && FrameworkConfig.driverPoolPrewarm()) {
+            DriverPool.prewarm(FrameworkConfig.driverPoolSize());
+        }
+    }
+
+    /**
+     * Shuts down pooled sessions, shared browsers, driver services and the embedded grid,
+     * then kills anything they left behind.
+     */
+    public static void releaseResources() {
+        if (FrameworkConfig.driverPoolEnabled()) {
+            DriverPool.shutdown();
+        }
+        if (FrameworkConfig.executionMode() == ExecutionMode.CONTEXT) {
+            BrowserContextManager.shutdown();
+        }
+        if (FrameworkConfig.driverServiceShared()) {
+            DriverServiceRegistry.shutdown();
+        }
+        if (FrameworkConfig.remoteExecution()) {
+            GridMonitor.stop();
+            if (FrameworkConfig.gridEmbeddedMode() != EmbeddedGridMode.NONE) {
+                EmbeddedGrid.stop();
+            }
+        }
+        XvfbDisplayPool.shutdown();
+        ProcessReaper.reapCurrentRun();
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            BootstrapTimings.publish();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.liftofftech.falcon.core.base;
+
+import com.liftofftech.falcon.core.config.FrameworkConfig;
+import com.liftofftech.falcon.core.reporting.ExecutionMetrics;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Waits on the browser's own completion signals instead of fixed sleeps. Each wait runs as
+ * one {@code executeAsyncScript} call that returns as soon as the signal arrives, or after
+ * {@code signal.wait.timeout.ms} at the latest, and reports how long it actually waited
+ * (also recorded as {@code wait.<name>} in the execution metrics).
+ */
+final class PageSignals {
+
+    /** Scroll actions; {@code el} is the element argument and {@code amount} the pixel argument. */
+    static final String SCROLL_INTO_VIEW = "el.scrollIntoView({behavior: 'smooth', block: 'center', inline: 'nearest'});";
+    static final String SCROLL_TO_CENTER =
+        "window.scrollTo(0, el.getBoundingClientRect().top + window.scrollY - window.outerHeight / 2);";
+    static final String SCROLL_WINDOW_BY = "window.scrollBy(0, amount);";
+    static final String SCROLL_ELEMENT_BY = "el.scrollTop += amount;";
+
+    // Listens for scrollend (captured on window, so element scrolls count too) before
+    // starting the scroll, and falls back to the position staying put for three polls,
+    // which also covers scrolls that had nothing to do.
+    private static final String SETTLE_BEFORE =
+        "const timeout = arguments[0], el = arguments[1], amount = arguments[2], done = arguments[arguments.length - 1];" +
+        "const start = performance.now(); let ended = false; const onEnd = () => { ended = true; };" +
+        "window.addEventListener('scrollend', onEnd, true);" +
+        "const position = () => window.scrollX + ',' + window.scrollY" +
+        "  + (el ? ',' + el.scrollTop + ',' + el.getBoundingClientRect().top : '');" +
+        "let last = position(), stable = 0;";
+    private static final String SETTLE_AFTER =
+        "const finish = signal => { window.removeEventListener('scrollend', onEnd, true);" +
+        "  done({ signal: signal, ms: performance.now() - start }); };" +
+        "const poll = () => { if (ended) return finish('scrollend');" +
+        "  const now = position(); stable = now === last ? stable + 1 : 0; last = now;" +
+        "  if (stable >= 3) return finish('stable');" +
+        "  if (performance.now() - start > timeout) return finish('timeout');" +
+        "  setTimeout(poll, 16); };" +
+        "setTimeout(poll, 16);";
+
+    // Also arms an input listener on the target, so the paste is noticed even when the field
+    // truncates or reformats the text.
+    private static final String CLIPBOARD_WRITE =
+        "const el = arguments[0], text = arguments[1], done = arguments[arguments.length - 1], start = performance.now();" +
+        "el.__falconInput = false; el.addEventListener('input', () => { el.__falconInput = true; }, { once: true });" +
+        "navigator.clipboard.writeText(text)" +
+        "  .then(() => done({ signal: 'written', ms: performance.now() - start }))" +
+        "  .catch(err => done({ signal: 'failed', error: String(err), ms: performance.now() - start }));";
+
+    private static final String TEXT_APPLIED =
+        "const el = arguments[0], text = arguments[1], timeout = arguments[2], done = arguments[arguments.length - 1];" +
+        "const start = performance.now();" +
+        "const has = () => el.__falconInput || (el.value !== undefined ? el.value : el.textContent).includes(text);" +
+        "if (has()) { done({ signal: 'applied', ms: 0 }); return; }" +
+        "const finish = signal => { el.removeEventListener('input', check); clearInterval(timer);" +
+        "  done({ signal: signal, ms: performance.now() - start }); };" +
+        "const check = () => { if (has()) finish('applied');" +
+        "  else if (performance.now() - start > timeout) finish('timeout'); };" +
+        "el.addEventListener('input', check);" +
+        "const timer = setInterval(check, 16);";
+
+    // Steps until the condition holds. After a step that did not move, waits for the content
+    // to grow (lazy lists) before concluding there is nothing left to scroll.
+    private static final String SCROLL_UNTIL =
+        "const el = arguments[0], step = arguments[1], maxSteps = arguments[2], timeout = arguments[3]," +
+        "  budget = arguments[4], done = arguments[arguments.length - 1], start = performance.now();" +
+        ViewportState.FUNCTION +
+        "const position = () => el ? el.scrollTop : window.scrollY;" +
+        "const extent = () => el ? el.scrollHeight : document.documentElement.scrollHeight;" +
+        "const until = (check, ms) => new Promise(resolve => { const end = performance.now() + ms;" +
+        "  const poll = () => { if (check()) resolve(true); else if (performance.now() > end) resolve(false);" +
+        "    else setTimeout(poll, 16); }; setTimeout(poll, 16); });" +
+        "let last = null, stable = 0;" +
+        "const settled = () => { const now = position(); stable = now === last ? stable + 1 : 0; last = now; return stable >= 3; };" +
+        "const met = () => { const top = position(), max = el ? el.scrollHeight - el.clientHeight : %s; return %s; };" +
+        "(async () => { let steps = 0, signal = 'max-steps';" +
+        "  try {" +
+        "    while (true) {" +
+        "      if (met()) { signal = 'reached'; break; }" +
+        "      if (steps >= maxSteps) { signal = 'max-steps'; break; }" +
+        "      if (performance.now() - start > budget) { signal = 'timeout'; break; }" +
+        "      const before = position(), height = extent();" +
+        "      if (el) el.scrollTop += step; else window.scrollBy(0, step);" +
+        "      steps++; last = null; stable = 0;" +
+        "      await until(settled, timeout);" +
+        "      if (position() === before && !met() && !await until(() => extent() !== height, timeout)) { signal = 'end'; break; }" +
+        "    }" +
+        "    done({ signal: signal, reached: met(), steps: steps, ms: performance.now() - start, state: viewportState(el) });" +
+        "  } catch (err) {" +
+        "    done({ signal: 'failed', error: String(err), reached: false, steps: steps, ms: performance.now() - start, state: viewportState(el) });" +
+        "  } })();";
+
+    private PageSignals() {
+        // utility
+    }
+
+    /**
+     * Runs a scroll action and waits until scrolling has finished.
+     *
+     * @param action  one of the scroll action constants
+     * @param element element the action uses, or null
+     * @param amount  pixel amount the action uses
+     * @return how long the scroll took to settle
+     */
+    static Duration scroll(WebDriver driver, String action, WebElement element, long amount) {
+        return await(driver, "scroll.settle", SETTLE_BEFORE + action + SETTLE_AFTER,
+            FrameworkConfig.signalWaitTimeout().toMillis(), element, amount);
+    }
+
+    /**
+     * Writes text to the clipboard for pasting into the element and waits for the write to
+     * resolve. A rejected write (e.g. no clipboard permission) is logged, not thrown, leaving
+     * the paste to show the result.
+     *
+     * @return how long the write took
+     */
+    static Duration writeClipboard(WebDriver driver, WebElement element, String text) {
+        return await(driver, "paste.clipboard", CLIPBOARD_WRITE, element, text);
+    }
+
+    /**
+     * Waits until the element received input after {@link #writeClipboard}, or its value
+     * (or text content) contains the given text.
+     *
+     * @return how long it took for the paste to land
+     */
+    static Duration textApplied(WebDriver driver, WebElement element, String text) {
+        return await(driver, "paste.applied", TEXT_APPLIED, element, text, FrameworkConfig.signalWaitTimeout().toMillis());
+    }
+
+    /**
+     * Scrolls the element, or the window when it is null, step by step inside the page until
+     * the condition holds, nothing is left to scroll, {@code scroll.until.max.steps} steps were
+     * taken or the script timeout is nearly spent. Each step waits for the scroll to settle.
+     *
+     * @param step signed pixels per step (positive = down)
+     * @return the final state and the number of steps taken
+     */
+    static ScrollResult scrollUntil(WebDriver driver, WebElement element, ScrollCondition condition, int step) {
+        if (step == 0) {
+            throw new IllegalArgumentException("Scroll step must not be 0");
+        }
+        String script = String.format(SCROLL_UNTIL, ViewportState.MAX_SCROLL_Y, condition.expression());
+        Map<String, Object> result = run(driver, "scroll.until", script, element, step,
+            FrameworkConfig.scrollUntilMaxSteps(), FrameworkConfig.signalWaitTimeout().toMillis(),
+            FrameworkConfig.scriptTimeout().minusSeconds(2).toMillis());
+        ScrollResult outcome = new ScrollResult(Boolean.TRUE.equals(result.get("reached")), (String) result.get("signal"),
+            ((Number) result.get("steps")).intValue(), duration(result), ViewportState.from(result.get("state")));
+        if (!outcome.reached()) {
+            ExecutionMetrics.increment("wait.scroll.until.unreached");
+        }
+        return outcome;
+    }
+
+    private static Duration await(WebDriver driver, String name, String script, Object... args) {
+        return duration(run(driver, name, script, args));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> run(WebDriver driver, String name, String script, Object... args) {
+        Map<String, Object> result = (Map<String, Object>) ((JavascriptExecutor) driver).executeAsyncScript(script, args);
+        ExecutionMetrics.recordTime("wait." + name, duration(result));
+        Object signal = result.get("signal");
+        if ("timeout".equals(signal)) {
+            ExecutionMetrics.increment("wait." + name + ".timeout");
+        } else if ("failed".equals(signal)) {
+            System.err.println("Wait " + name + " failed: " + result.get("error"));
+        }
+        return result;
+    }
+
+    private static Duration duration(Map<String, Object> result) {
+        return Duration.ofNanos((long) (((Number) result.get("ms")).doubleValue() * 1_000_000));
+    }
+}
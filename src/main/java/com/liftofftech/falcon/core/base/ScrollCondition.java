@@ -0,0 +1,86 @@
+package com.liftofftech.falcon.core.base;
+
+import com.liftofftech.falcon.core.driver.JsLocator;
+import org.openqa.selenium.By;
+
+/**
+ * Stop condition for {@link BasePage#scrollUntil} and {@link BasePage#scrollElementUntil},
+ * evaluated inside the page before every scroll step. Conditions are JavaScript expressions
+ * that may use {@code top} and {@code max} (position and largest position of whatever is
+ * being scrolled), {@code step} (the signed step size) and {@code el} (the scrolled element,
+ * or null for the window).
+ */
+public final class ScrollCondition {
+
+    private final String expression;
+    private final String description;
+
+    private ScrollCondition(String expression, String description) {
+        this.expression = expression;
+        this.description = description;
+    }
+
+    /**
+     * Scrolls until nothing is left to scroll in the step's direction. Content that is
+     * appended only once the end is reached (infinite lists) is not waited for; use
+     * {@link #count} for those.
+     */
+    public static ScrollCondition end() {
+        return new ScrollCondition("(step > 0 ? top >= max - 1 : top <= 0)", "end");
+    }
+
+    /**
+     * Scrolls until the position is at least (scrolling down) or at most (scrolling up) the given value.
+     */
+    public static ScrollCondition position(long pixels) {
+        return new ScrollCondition("(step > 0 ? top >= " + pixels + " : top <= " + pixels + ")", "position " + pixels);
+    }
+
+    /**
+     * Scrolls until the first element matching the locator exists in the page.
+     */
+    public static ScrollCondition present(By locator) {
+        return new ScrollCondition("!!" + first(locator), "present " + locator);
+    }
+
+    /**
+     * Scrolls until the first element matching the locator is rendered inside the viewport.
+     */
+    public static ScrollCondition inViewport(By locator) {
+        return new ScrollCondition("(e => { if (!e) return false; const r = e.getBoundingClientRect();" +
+            " return r.width > 0 && r.height > 0 && r.bottom > 0 && r.top < window.innerHeight" +
+            " && r.right > 0 && r.left < window.innerWidth; })(" + first(locator) + ")", "in viewport " + locator);
+    }
+
+    /**
+     * Scrolls until at least {@code count} elements match the locator, e.g. for lazily loaded lists.
+     */
+    public static ScrollCondition count(By locator, int count) {
+        String all = JsLocator.all(locator).orElseThrow(() -> unsupported(locator));
+        return new ScrollCondition("(" + all + ".length >= " + count + ")", count + " x " + locator);
+    }
+
+    /**
+     * Scrolls until a custom JavaScript expression is truthy.
+     */
+    public static ScrollCondition script(String expression) {
+        return new ScrollCondition("!!(" + expression + ")", expression);
+    }
+
+    String expression() {
+        return expression;
+    }
+
+    private static String first(By locator) {
+        return JsLocator.first(locator).orElseThrow(() -> unsupported(locator));
+    }
+
+    private static IllegalArgumentException unsupported(By locator) {
+        return new IllegalArgumentException("Scroll conditions need a CSS or XPath locator: " + locator);
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
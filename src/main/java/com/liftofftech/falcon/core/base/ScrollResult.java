@@ -0,0 +1,58 @@
+package com.liftofftech.falcon.core.base;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a scroll-until loop that ran inside the page.
+ */
+public final class ScrollResult {
+
+    private final boolean reached;
+    private final String stoppedBy;
+    private final int steps;
+    private final Duration duration;
+    private final ViewportState state;
+
+    ScrollResult(boolean reached, String stoppedBy, int steps, Duration duration, ViewportState state) {
+        this.reached = reached;
+        this.stoppedBy = stoppedBy;
+        this.steps = steps;
+        this.duration = duration;
+        this.state = state;
+    }
+
+    /**
+     * Returns whether the condition held when scrolling stopped.
+     */
+    public boolean reached() {
+        return reached;
+    }
+
+    /**
+     * Returns why scrolling stopped: {@code reached}, {@code end} (nothing left to scroll and
+     * no new content), {@code max-steps} or {@code timeout}.
+     */
+    public String stoppedBy() {
+        return stoppedBy;
+    }
+
+    public int steps() {
+        return steps;
+    }
+
+    public Duration duration() {
+        return duration;
+    }
+
+    /**
+     * Returns the geometry after the last step.
+     */
+    public ViewportState state() {
+        return state;
+    }
+
+    @Override
+    public String toString() {
+        return "ScrollResult{stoppedBy=" + stoppedBy + ", steps=" + steps + ", ms=" + duration.toMillis() + ", " + state + "}";
+    }
+}
@@ -0,0 +1,121 @@
+package com.liftofftech.falcon.core.base;
+
+import java.util.Map;
+
+/**
+ * Scroll geometry of the window, and optionally of one scrollable element, read in a single
+ * script call instead of one round trip per getter. All values are CSS pixels.
+ */
+public final class ViewportState {
+
+    /** Vertical scroll position of the window. */
+    static final String SCROLL_Y =
+        "(window.pageYOffset || document.documentElement.scrollTop || document.body.scrollTop || 0)";
+    /** Largest vertical scroll position of the window. */
+    static final String MAX_SCROLL_Y =
+        "(Math.max(document.body.scrollHeight, document.body.offsetHeight, " +
+        "document.documentElement.clientHeight, document.documentElement.scrollHeight, " +
+        "document.documentElement.offsetHeight) - window.innerHeight)";
+
+    /** Defines {@code viewportState(el)}, returning the map {@link #from} reads; {@code el} may be null. */
+    static final String FUNCTION =
+        "const viewportState = el => ({ scrollX: Math.round(window.pageXOffset || 0)," +
+        "  scrollY: Math.round(" + SCROLL_Y + "), maxScrollY: Math.round(" + MAX_SCROLL_Y + ")," +
+        "  viewportWidth: window.innerWidth, viewportHeight: window.innerHeight," +
+        "  element: el ? { scrollTop: Math.round(el.scrollTop), maxScrollTop: el.scrollHeight - el.clientHeight," +
+        "    clientHeight: el.clientHeight } : null });";
+
+    private final long scrollX;
+    private final long scrollY;
+    private final long maxScrollY;
+    private final long viewportWidth;
+    private final long viewportHeight;
+    private final Map<String, Object> element;
+
+    private ViewportState(Map<String, Object> state) {
+        this.scrollX = number(state, "scrollX");
+        this.scrollY = number(state, "scrollY");
+        this.maxScrollY = number(state, "maxScrollY");
+        this.viewportWidth = number(state, "viewportWidth");
+        this.viewportHeight = number(state, "viewportHeight");
+        this.element = state.get("element") == null ? null : castMap(state.get("element"));
+    }
+
+    static ViewportState from(Object state) {
+        return new ViewportState(castMap(state));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> castMap(Object value) {
+        return (Map<String, Object>) value;
+    }
+
+    private static long number(Map<String, Object> values, String key) {
+        return ((Number) values.get(key)).longValue();
+    }
+
+    public long scrollX() {
+        return scrollX;
+    }
+
+    public long scrollY() {
+        return scrollY;
+    }
+
+    public long maxScrollY() {
+        return maxScrollY;
+    }
+
+    public long viewportWidth() {
+        return viewportWidth;
+    }
+
+    public long viewportHeight() {
+        return viewportHeight;
+    }
+
+    public boolean atTop() {
+        return scrollY <= 0;
+    }
+
+    public boolean atBottom() {
+        return scrollY >= maxScrollY - 1;
+    }
+
+    /**
+     * Returns whether the state includes a scrollable element.
+     */
+    public boolean hasElement() {
+        return element != null;
+    }
+
+    public long elementScrollTop() {
+        return number(element(), "scrollTop");
+    }
+
+    public long elementMaxScrollTop() {
+        return number(element(), "maxScrollTop");
+    }
+
+    public long elementClientHeight() {
+        return number(element(), "clientHeight");
+    }
+
+    public boolean elementScrollable() {
+        return elementMaxScrollTop() > 0;
+    }
+
+    private Map<String, Object> element() {
+        if (element == null) {
+            throw new IllegalStateException("Viewport state was read without an element");
+        }
+        return element;
+    }
+
+    @Override
+    public String toString() {
+        return "ViewportState{scroll=" + scrollX + "," + scrollY + ", maxScrollY=" + maxScrollY
+            + ", viewport=" + viewportWidth + "x" + viewportHeight
+            + (element == null ? "" : ", element=" + elementScrollTop() + "/" + elementMaxScrollTop()) + "}";
+    }
+}
@@ -1,10 +1,20 @@
 package com.liftofftech.falcon.core.config;
 
 import com.liftofftech.falcon.core.driver.BrowserType;
+import com.liftofftech.falcon.core.driver.ExecutionMode;
 import com.liftofftech.falcon.core.driver.ModuleType;
 import com.liftofftech.falcon.core.driver.PlatformType;
+import com.liftofftech.falcon.core.driver.ResetStrategy;
+import com.liftofftech.falcon.core.grid.EmbeddedGridMode;
+import com.liftofftech.falcon.core.utils.SystemResources;
 
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 public final class FrameworkConfig {
 
@@ -28,8 +38,178 @@ public final class FrameworkConfig {
         return Boolean.parseBoolean(ConfigManager.get("remote", "false"));
     }
 
-    public static String gridUrl() {
-        return ConfigManager.get("grid.url", "http://localhost:4444/wd/hub");
+    /**
+     * Returns the grid WebDriver URLs. {@code grid.url} may list several grids separated by
+     * commas; new sessions are then spread across them by {@link com.liftofftech.falcon.core.grid.GridRouter}.
+     *
+     * @return one or more grid URLs
+     */
+    public static List<String> gridUrls() {
+        List<String> urls = Arrays.stream(ConfigManager.get("grid.url", "http://localhost:4444/wd/hub").split(","))
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .collect(Collectors.toList());
+        if (urls.isEmpty()) {
+            throw new IllegalArgumentException("grid.url does not name any grid");
+        }
+        return urls;
+    }
+
+    /**
+     * Returns the connect timeout of the HTTP client shared by remote sessions.
+     *
+     * @return connect timeout
+     */
+    public static Duration remoteHttpConnectTimeout() {
+        return Duration.ofSeconds(Long.parseLong(ConfigManager.get("remote.http.connect.timeout", "10")));
+    }
+
+    /**
+     * Returns how long a remote command may wait for the grid's response.
+     *
+     * @return read timeout
+     */
+    public static Duration remoteHttpReadTimeout() {
+        return Duration.ofSeconds(Long.parseLong(ConfigManager.get("remote.http.read.timeout", "180")));
+    }
+
+    /**
+     * Returns whether read-only page queries in {@code BasePage} go over a DevTools
+     * WebSocket first, falling back to WebDriver when that path cannot answer.
+     *
+     * @return true to use the DevTools fast path
+     */
+    public static boolean fastReadsEnabled() {
+        return Boolean.parseBoolean(ConfigManager.get("fast.reads", "false"));
+    }
+
+    /**
+     * Returns how long a DevTools fast read may take before WebDriver is used instead.
+     *
+     * @return fast read timeout
+     */
+    public static Duration fastReadsTimeout() {
+        return Duration.ofMillis(Long.parseLong(ConfigManager.get("fast.reads.timeout.ms", "2000")));
+    }
+
+    /**
+     * Returns whether {@code BasePage} reuses elements resolved for a locator until the page
+     * changes them, instead of resolving the locator on every action.
+     *
+     * @return true to cache resolved elements
+     */
+    public static boolean elementCacheEnabled() {
+        return Boolean.parseBoolean(ConfigManager.get("element.cache.enabled", "false"));
+    }
+
+    /**
+     * Returns whether XPath locators are run as their compiled CSS form where one exists.
+     *
+     * @return true to use compiled CSS selectors
+     */
+    public static boolean locatorCompileCss() {
+        return Boolean.parseBoolean(ConfigManager.get("locator.compile.css", "false"));
+    }
+
+    /**
+     * Returns whether file uploads to remote sessions are de-duplicated by content hash.
+     *
+     * @return true to cache uploads
+     */
+    public static boolean uploadCacheEnabled() {
+        return Boolean.parseBoolean(ConfigManager.get("upload.cache.enabled", "true"));
+    }
+
+    /**
+     * Returns the memory budget for encoded upload payloads kept for reuse across sessions.
+     *
+     * @return cache size in megabytes
+     */
+    public static long uploadCacheMaxMb() {
+        return Long.parseLong(ConfigManager.get("upload.cache.max.mb", "64"));
+    }
+
+    /**
+     * Returns how long a grid's status is reused when routing new sessions.
+     *
+     * @return status cache lifetime
+     */
+    public static Duration gridRouterStatusTtl() {
+        return Duration.ofMillis(Long.parseLong(ConfigManager.get("grid.router.status.ttl.ms", "1000")));
+    }
+
+    /**
+     * Returns the consecutive failures (unreachable status or failed session creation)
+     * after which a grid endpoint is taken out of rotation.
+     *
+     * @return failure threshold
+     */
+    public static int gridRouterMaxFailures() {
+        return Integer.parseInt(ConfigManager.get("grid.router.max.failures", "3"));
+    }
+
+    /**
+     * Returns how long a failing grid endpoint stays out of rotation.
+     *
+     * @return down time
+     */
+    public static Duration gridRouterDownTime() {
+        return Duration.ofSeconds(Long.parseLong(ConfigManager.get("grid.router.down.seconds", "30")));
+    }
+
+    /**
+     * Returns whether the framework starts its own Selenium Grid for remote runs, and which topology.
+     *
+     * @return embedded grid mode
+     */
+    public static EmbeddedGridMode gridEmbeddedMode() {
+        return EmbeddedGridMode.from(ConfigManager.get("grid.embedded", "none"));
+    }
+
+    /**
+     * Returns the session slots of the embedded grid, or 0 to size them from cores and memory.
+     *
+     * @return configured session slots
+     */
+    public static int gridEmbeddedMaxSessions() {
+        return Integer.parseInt(ConfigManager.get("grid.embedded.max.sessions", "0"));
+    }
+
+    /**
+     * Returns the memory budget of one browser session when sizing the embedded grid.
+     *
+     * @return memory per session in MB
+     */
+    public static long gridEmbeddedSessionMemoryMb() {
+        return Long.parseLong(ConfigManager.get("grid.embedded.session.memory.mb", "600"));
+    }
+
+    /**
+     * Returns the node count of an embedded hub grid, or 0 for one node per four slots.
+     *
+     * @return configured node count
+     */
+    public static int gridEmbeddedNodes() {
+        return Integer.parseInt(ConfigManager.get("grid.embedded.nodes", "0"));
+    }
+
+    /**
+     * Returns how many independent embedded grids to start; their slots are split evenly
+     * and sessions are routed between them.
+     *
+     * @return number of embedded grids
+     */
+    public static int gridEmbeddedInstances() {
+        return Integer.parseInt(ConfigManager.get("grid.embedded.instances", "1"));
+    }
+
+    /**
+     * Returns how long to wait for the embedded grid to register all its slots.
+     *
+     * @return startup timeout
+     */
+    public static Duration gridEmbeddedStartupTimeout() {
+        return Duration.ofSeconds(Long.parseLong(ConfigManager.get("grid.embedded.startup.timeout", "60")));
     }
 
     public static boolean headless() {
@@ -44,10 +224,506 @@ public final class FrameworkConfig {
         return Duration.ofSeconds(Long.parseLong(ConfigManager.get("page.load.timeout", "30")));
     }
 
+    /**
+     * Returns the session script timeout, which also bounds one batched action chain.
+     *
+     * @return script timeout
+     */
+    public static Duration scriptTimeout() {
+        return Duration.ofSeconds(Long.parseLong(ConfigManager.get("script.timeout", "120")));
+    }
+
+    /**
+     * Returns whether {@code ActionChain} compiles consecutive script steps into one round trip.
+     *
+     * @return true to batch, false to run every step through WebDriver
+     */
+    public static boolean actionChainBatch() {
+        return Boolean.parseBoolean(ConfigManager.get("action.chain.batch", "true"));
+    }
+
+    /**
+     * Returns whether headed local runs on Linux put each browser on its own pooled Xvfb display.
+     *
+     * @return true if the virtual display pool is used
+     */
+    public static boolean xvfbEnabled() {
+        return Boolean.parseBoolean(ConfigManager.get("xvfb.enabled", "false"));
+    }
+
+    /**
+     * Returns the maximum number of virtual displays running at once.
+     *
+     * @return display pool size, by default the number of cores
+     */
+    public static int xvfbPoolSize() {
+        return Integer.parseInt(ConfigManager.get("xvfb.pool.size",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+    }
+
+    /**
+     * Returns whether the display pool is started up front when the run starts.
+     *
+     * @return true if displays are pre-started
+     */
+    public static boolean xvfbPrestart() {
+        return Boolean.parseBoolean(ConfigManager.get("xvfb.prestart", "true"));
+    }
+
+    /**
+     * Returns the first display number the pool tries.
+     *
+     * @return base display number
+     */
+    public static int xvfbDisplayBase() {
+        return Integer.parseInt(ConfigManager.get("xvfb.display.base", "90"));
+    }
+
+    /**
+     * Returns how many browsers a display serves before its server is restarted.
+     *
+     * @return leases per display
+     */
+    public static int xvfbMaxUses() {
+        return Integer.parseInt(ConfigManager.get("xvfb.max.uses", "25"));
+    }
+
+    /**
+     * Returns how long a launch waits for a virtual display when all of them are in use.
+     *
+     * @return display lease timeout
+     */
+    public static Duration xvfbLeaseTimeout() {
+        return Duration.ofSeconds(Long.parseLong(ConfigManager.get("xvfb.lease.timeout", "120")));
+    }
+
+    /**
+     * Returns the Xvfb executable.
+     *
+     * @return executable name or path
+     */
+    public static String xvfbExecutable() {
+        return ConfigManager.get("xvfb.executable", "Xvfb");
+    }
+
+    /**
+     * Returns the longest time scroll and paste helpers wait for the browser's completion signal.
+     *
+     * @return signal wait timeout
+     */
+    public static Duration signalWaitTimeout() {
+        return Duration.ofMillis(Long.parseLong(ConfigManager.get("signal.wait.timeout.ms", "3000")));
+    }
+
+    /**
+     * Returns the most steps one scroll-until loop takes before giving up.
+     *
+     * @return maximum scroll steps
+     */
+    public static int scrollUntilMaxSteps() {
+        return Integer.parseInt(ConfigManager.get("scroll.until.max.steps", "100"));
+    }
+
+    /**
+     * Returns the desktop browser window size applied at launch, as {@code width,height}.
+     *
+     * @return window size argument
+     */
+    public static String browserWindowSize() {
+        return ConfigManager.get("browser.window.size", "1920,1080");
+    }
+
     public static boolean screenshotOnFailure() {
         return Boolean.parseBoolean(ConfigManager.get("screenshot.on.failure", "true"));
     }
 
+    /**
+     * Returns whether driver binaries must come from the local cache only.
+     * In offline mode a cache miss fails immediately instead of reaching the network.
+     *
+     * @return true if driver resolution is offline
+     */
+    public static boolean driverOffline() {
+        return Boolean.parseBoolean(ConfigManager.get("driver.offline", "false"));
+    }
+
+    /**
+     * Returns the file that maps browser versions to resolved driver executables.
+     *
+     * @return driver cache file path
+     */
+    public static String driverCacheFile() {
+        return ConfigManager.get("driver.cache.file",
+                System.getProperty("user.home") + "/.falcon/driver-cache.properties");
+    }
+
+    /**
+     * Returns the network timeout used when a driver binary has to be downloaded.
+     *
+     * @return timeout in seconds
+     */
+    public static int driverResolveTimeoutSeconds() {
+        return Integer.parseInt(ConfigManager.get("driver.resolve.timeout", "30"));
+    }
+
+    /**
+     * Returns whether local sessions reuse long-lived driver servers instead of spawning a
+     * new chromedriver/msedgedriver process for each session.
+     *
+     * @return true if driver services are shared
+     */
+    public static boolean driverServiceShared() {
+        return Boolean.parseBoolean(ConfigManager.get("driver.service.shared", "true"));
+    }
+
+    /**
+     * Returns how many shared driver servers may run per browser; further launches share them.
+     *
+     * @return maximum number of shared driver services per browser
+     */
+    public static int driverServiceMax() {
+        return Integer.parseInt(ConfigManager.get("driver.service.max",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+    }
+
+    /**
+     * Returns whether local browsers start from a clone of a pre-built profile template
+     * instead of an empty user-data-dir. Off by default, since every session then holds a
+     * profile copy in the clone directory.
+     *
+     * @return true if the profile template is used
+     */
+    public static boolean browserProfileTemplate() {
+        return Boolean.parseBoolean(ConfigManager.get("browser.profile.template", "false"));
+    }
+
+    /**
+     * Returns the directory holding the pre-built profile templates, one per browser.
+     *
+     * @return profile template directory
+     */
+    public static String browserProfileTemplateDir() {
+        return ConfigManager.get("browser.profile.template.dir",
+                System.getProperty("user.home") + "/.falcon/profile-template");
+    }
+
+    /**
+     * Returns the directory receiving per-session profile clones, tmpfs when available.
+     * Clones that do not fit go to {@code java.io.tmpdir} instead.
+     *
+     * @return profile clone directory
+     */
+    public static String browserProfileCloneDir() {
+        String defaultDir = Files.isDirectory(Paths.get("/dev/shm"))
+                ? "/dev/shm/falcon-profiles"
+                : Paths.get(System.getProperty("java.io.tmpdir"), "falcon-profiles").toString();
+        return ConfigManager.get("browser.profile.clone.dir", defaultDir);
+    }
+
+    /**
+     * Returns whether driver and browser processes are recorded and leftovers reaped.
+     *
+     * @return true if the process reaper is enabled
+     */
+    public static boolean processReaperEnabled() {
+        return Boolean.parseBoolean(ConfigManager.get("process.reaper.enabled", "true"));
+    }
+
+    /**
+     * Returns the directory holding one process registry file per run.
+     *
+     * @return process registry directory
+     */
+    public static String processRegistryDir() {
+        return ConfigManager.get("process.registry.dir",
+                Paths.get(System.getProperty("java.io.tmpdir"), "falcon-processes").toString());
+    }
+
+    /**
+     * Returns whether sessions are watched for hung commands and dead browsers.
+     *
+     * @return true if the session watchdog is enabled
+     */
+    public static boolean sessionWatchdogEnabled() {
+        return Boolean.parseBoolean(ConfigManager.get("session.watchdog.enabled", "true"));
+    }
+
+    /**
+     * Returns how long a single WebDriver command may run before the session counts as hung.
+     * Defaults to the longest session timeout (page load, script or implicit wait) plus one
+     * minute, so batched action chains and async scroll scripts that legitimately run close
+     * to the script timeout are not mistaken for hung commands.
+     *
+     * @return command budget
+     */
+    public static Duration sessionWatchdogCommandBudget() {
+        Duration longest = Collections.max(List.of(pageLoadTimeout(), scriptTimeout(), implicitWait()));
+        String defaultValue = String.valueOf(longest.plusSeconds(60).toSeconds());
+        return Duration.ofSeconds(Long.parseLong(ConfigManager.get("session.watchdog.command.budget", defaultValue)));
+    }
+
+    /**
+     * Returns the interval between DevTools heartbeats of a watched local session.
+     *
+     * @return heartbeat interval
+     */
+    public static Duration sessionWatchdogHeartbeatInterval() {
+        return Duration.ofSeconds(Long.parseLong(ConfigManager.get("session.watchdog.heartbeat.interval", "5")));
+    }
+
+    /**
+     * Returns how many consecutive heartbeats may fail before the browser counts as dead.
+     *
+     * @return tolerated heartbeat failures
+     */
+    public static int sessionWatchdogHeartbeatFailures() {
+        return Integer.parseInt(ConfigManager.get("session.watchdog.heartbeat.failures", "3"));
+    }
+
+    /**
+     * Returns the directory receiving thread dumps and browser state of aborted sessions.
+     *
+     * @return watchdog dump directory
+     */
+    public static String sessionWatchdogDumpDir() {
+        return ConfigManager.get("session.watchdog.dump.dir", "target/watchdog");
+    }
+
+    /**
+     * Returns how many local browsers may be starting at the same time.
+     * Defaults to half the available cores.
+     *
+     * @return maximum concurrent launches
+     */
+    public static int launchMaxConcurrent() {
+        String defaultValue = String.valueOf(Math.max(1, SystemResources.cpuCount() / 2));
+        return Integer.parseInt(ConfigManager.get("browser.launch.max.concurrent", defaultValue));
+    }
+
+    /**
+     * Returns the free memory below which new browser launches are held back.
+     *
+     * @return minimum free memory in MB
+     */
+    public static long launchMinFreeMemoryMb() {
+        return Long.parseLong(ConfigManager.get("browser.launch.min.free.memory.mb", "1024"));
+    }
+
+    /**
+     * Returns the one-minute load average per core above which new browser launches are held back.
+     *
+     * @return maximum load per core
+     */
+    public static double launchMaxLoadPerCore() {
+        return Double.parseDouble(ConfigManager.get("browser.launch.max.load.per.core", "1.5"));
+    }
+
+    /**
+     * Returns how long a launch waits for memory or load to recover before it proceeds anyway.
+     *
+     * @return backpressure timeout
+     */
+    public static Duration launchBackpressureTimeout() {
+        return Duration.ofSeconds(Long.parseLong(ConfigManager.get("browser.launch.backpressure.timeout", "60")));
+    }
+
+    /**
+     * Returns how many times a failed browser launch is retried.
+     *
+     * @return launch retries
+     */
+    public static int launchRetries() {
+        return Integer.parseInt(ConfigManager.get("browser.launch.retries", "2"));
+    }
+
+    /**
+     * Returns the base delay of the jittered exponential backoff between launch retries.
+     *
+     * @return backoff base in milliseconds
+     */
+    public static long launchBackoffMillis() {
+        return Long.parseLong(ConfigManager.get("browser.launch.backoff.ms", "500"));
+    }
+
+    /**
+     * Returns how sessions are provided: a browser process per session, isolated
+     * browser contexts in a shared process, or warm browsers leased from the host's daemon.
+     *
+     * @return execution mode
+     */
+    public static ExecutionMode executionMode() {
+        return ExecutionMode.from(ConfigManager.get("execution.mode", "process"));
+    }
+
+    /**
+     * Returns how many browser contexts one browser process hosts in context mode.
+     *
+     * @return contexts per browser process
+     */
+    public static int contextsPerBrowser() {
+        return Integer.parseInt(ConfigManager.get("browser.contexts.per.process", "4"));
+    }
+
+    /**
+     * Returns whether suites use the thread count calibrated for this machine profile
+     * instead of the static {@code thread-count} in the suite XML.
+     *
+     * @return true if the calibrated thread count is applied
+     */
+    public static boolean parallelAutotune() {
+        return Boolean.parseBoolean(ConfigManager.get("parallel.autotune", "true"));
+    }
+
+    /**
+     * Returns an explicit worker thread count that overrides both the suite XML and
+     * the calibrated value.
+     *
+     * @return forced thread count, or 0 when not set
+     */
+    public static int parallelThreads() {
+        return Integer.parseInt(ConfigManager.get("parallel.threads", "0"));
+    }
+
+    /**
+     * Returns whether the framework runs inside the long-lived test daemon, which keeps
+     * run resources (pooled browsers, embedded grid) across runs. Set by {@code TestDaemon}.
+     *
+     * @return true inside the test daemon
+     */
+    public static boolean testDaemon() {
+        return Boolean.parseBoolean(ConfigManager.get("test.daemon", "false"));
+    }
+
+    /**
+     * Returns the loopback port the test daemon accepts run requests on.
+     *
+     * @return test daemon port
+     */
+    public static int testDaemonPort() {
+        return Integer.parseInt(ConfigManager.get("test.daemon.port", "4460"));
+    }
+
+    /**
+     * Returns whether test methods run on virtual threads, with remote runs sized to the
+     * grid slots. Set by {@code VirtualThreadSuiteRunner}.
+     *
+     * @return true if methods run on virtual threads
+     */
+    public static boolean parallelVirtualThreads() {
+        return Boolean.parseBoolean(ConfigManager.get("parallel.virtual.threads", "false"));
+    }
+
+    /**
+     * Returns the file holding calibrated thread counts per machine profile.
+     *
+     * @return parallelism profile file path
+     */
+    public static String parallelProfileFile() {
+        return ConfigManager.get("parallel.profile.file",
+                System.getProperty("user.home") + "/.falcon/parallelism.properties");
+    }
+
+    /**
+     * Returns the comma-separated thread counts tried by the parallelism calibration.
+     *
+     * @return calibration levels, e.g. {@code 1,2,4,8}
+     */
+    public static String parallelCalibrationLevels() {
+        return ConfigManager.get("parallel.calibration.levels", "1,2,4,6,8,12,16");
+    }
+
+    /**
+     * Returns the highest failure rate (0.0 - 1.0) a calibration level may show
+     * and still be considered stable.
+     *
+     * @return tolerated failure rate
+     */
+    public static double parallelCalibrationMaxFailureRate() {
+        return Double.parseDouble(ConfigManager.get("parallel.calibration.max.failure.rate", "0.05"));
+    }
+
+    /**
+     * Returns whether browser sessions are pooled and reused across test methods.
+     *
+     * @return true if the driver pool is enabled
+     */
+    public static boolean driverPoolEnabled() {
+        return Boolean.parseBoolean(ConfigManager.get("driver.pool.enabled", "false"));
+    }
+
+    /**
+     * Returns the maximum number of live browser sessions held by the driver pool.
+     * Should be at least the suite thread count, otherwise workers wait for a free session.
+     *
+     * @return pool size
+     */
+    public static int driverPoolSize() {
+        return Integer.parseInt(ConfigManager.get("driver.pool.size", "4"));
+    }
+
+    /**
+     * Returns how many tests may use a pooled session before it is retired.
+     *
+     * @return maximum leases per session
+     */
+    public static int driverPoolMaxUses() {
+        return Integer.parseInt(ConfigManager.get("driver.pool.max.uses", "20"));
+    }
+
+    /**
+     * Returns how pooled sessions are cleaned between tests (none, cookies or full).
+     *
+     * @return reset strategy
+     */
+    public static ResetStrategy driverPoolResetStrategy() {
+        return ResetStrategy.from(ConfigManager.get("driver.pool.reset", "full"));
+    }
+
+    /**
+     * Returns the loopback port of the browser lease daemon used by {@code execution.mode=lease}.
+     *
+     * @return lease daemon port
+     */
+    public static int leaseDaemonPort() {
+        return Integer.parseInt(ConfigManager.get("lease.daemon.port", "4450"));
+    }
+
+    /**
+     * Returns how long a lease may wait for the daemon to free up a browser.
+     *
+     * @return lease timeout
+     */
+    public static Duration leaseDaemonTimeout() {
+        return Duration.ofSeconds(Long.parseLong(ConfigManager.get("lease.daemon.timeout", "300")));
+    }
+
+    /**
+     * Returns how long to wait for a connection to the lease daemon.
+     *
+     * @return connect timeout
+     */
+    public static Duration leaseDaemonConnectTimeout() {
+        return Duration.ofMillis(Long.parseLong(ConfigManager.get("lease.daemon.connect.timeout.ms", "2000")));
+    }
+
+    /**
+     * Returns whether the driver pool launches its sessions up front when the run starts.
+     *
+     * @return true if the pool is pre-warmed
+     */
+    public static boolean driverPoolPrewarm() {
+        return Boolean.parseBoolean(ConfigManager.get("driver.pool.prewarm", "true"));
+    }
+
+    /**
+     * Returns the file execution metrics are written to at the end of a run.
+     *
+     * @return metrics output path
+     */
+    public static String metricsOutputFile() {
+        return ConfigManager.get("metrics.output.file", "target/falcon-metrics.json");
+    }
+
     public static String mobileDeviceName() {
         return ConfigManager.get("mobile.device.name", "Pixel 7");
     }
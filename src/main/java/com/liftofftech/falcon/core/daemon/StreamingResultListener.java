@@ -0,0 +1,59 @@
+package com.liftofftech.falcon.core.daemon;
+
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import java.io.PrintWriter;
+import java.util.Locale;
+
+/**
+ * Writes each test outcome to the daemon client as soon as the test finishes.
+ */
+final class StreamingResultListener implements ITestListener {
+
+    private final PrintWriter out;
+
+    StreamingResultListener(PrintWriter out) {
+        this.out = out;
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        print("PASS", result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        print("FAIL", result);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        print("SKIP", result);
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        print("FAIL", result);
+    }
+
+    @Override
+    public void onFinish(ITestContext context) {
+        synchronized (out) {
+            out.printf(Locale.ROOT, "%s: %d passed, %d failed, %d skipped%n", context.getName(),
+                    context.getPassedTests().size(), context.getFailedTests().size(), context.getSkippedTests().size());
+        }
+    }
+
+    private void print(String outcome, ITestResult result) {
+        synchronized (out) {
+            out.printf(Locale.ROOT, "%s %s.%s (%.1f s)%n", outcome, result.getTestClass().getRealClass().getSimpleName(),
+                    result.getMethod().getMethodName(), (result.getEndMillis() - result.getStartMillis()) / 1000.0);
+            Throwable error = result.getThrowable();
+            if (error != null) {
+                out.println("    " + String.valueOf(error).split("\n")[0]);
+            }
+        }
+    }
+}
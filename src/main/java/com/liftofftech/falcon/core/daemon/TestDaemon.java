@@ -0,0 +1,260 @@
+package com.liftofftech.falcon.core.daemon;
+
+import com.liftofftech.falcon.core.base.FrameworkLifecycleListener;
+import com.liftofftech.falcon.core.config.FrameworkConfig;
+import com.liftofftech.falcon.core.reporting.ExecutionMetrics;
+import org.testng.TestNG;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Long-lived framework JVM that runs tests on request, so a re-run skips JVM startup, class
+ * loading, JIT warm-up and browser launch. It keeps the driver pool warm between runs (the
+ * lifecycle listener leaves run resources alone while {@code test.daemon=true}) and reloads
+ * {@code target/test-classes} for every run, so tests recompiled with
+ * {@code mvn test-compile} are picked up without a restart.
+ * <p>
+ * Requests are one line on a loopback socket: {@code run <target> [key=value ...]}, where the
+ * target is a suite XML, a test class, or {@code Class#method} (several separated by commas;
+ * simple class names are resolved against the test classes), and the optional properties
+ * override configuration for that run only. The warm pool is keyed by browser, platform and
+ * headless, so overrides of those ({@code browser=edge}, {@code headless=false}) get newly
+ * launched sessions. Window size and timeout overrides apply to new sessions, and to warm
+ * ones when the pool resets them ({@code driver.pool.reset} other than
+ * {@code none}). Results stream back line by line while the run
+ * goes, ending with {@code EXIT <status>}. Allure results are written as usual.
+ * {@code stop} shuts the daemon down. Runs execute one at a time.
+ *
+ * <p>Start with {@code mvn test-compile exec:java -Ptest-daemon}; send runs with
+ * {@code ./falcon-run.sh}.</p>
+ */
+public final class TestDaemon {
+
+    private static final Path TEST_CLASSES = Paths.get("target", "test-classes");
+    private static final List<String> SUITE_LISTENERS = List.of(
+            "com.liftofftech.falcon.core.reporting.AllureReportListener",
+            "com.liftofftech.falcon.core.base.FrameworkLifecycleListener",
+            "com.liftofftech.falcon.core.parallel.ParallelismAlterSuiteListener");
+
+    private TestDaemon() {
+        // utility
+    }
+
+    public static void main(String[] args) throws IOException {
+        System.setProperty("test.daemon", "true");
+        if (System.getProperty("driver.pool.enabled") == null) {
+            System.setProperty("driver.pool.enabled", "true");
+        }
+        int port = FrameworkConfig.testDaemonPort();
+        try (ServerSocket server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress())) {
+            long start = System.nanoTime();
+            FrameworkLifecycleListener.acquireResources();
+            System.out.println("Test daemon ready on port " + port + " in "
+                    + (System.nanoTime() - start) / 1_000_000 + " ms");
+            boolean running = true;
+            while (running) {
+                try (Socket socket = server.accept()) {
+                    running = serve(socket);
+                } catch (IOException e) {
+                    System.err.println("Test daemon request failed: " + e.getMessage());
+                }
+            }
+        } finally {
+            FrameworkLifecycleListener.releaseResources();
+        }
+    }
+
+    /**
+     * Handles one request.
+     *
+     * @return false if the daemon was asked to stop
+     */
+    private static boolean serve(Socket socket) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        PrintWriter out = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), true);
+        String line = reader.readLine();
+        if (line == null || line.isBlank()) {
+            return true;
+        }
+        List<String> words = Arrays.asList(line.trim().split("\\s+"));
+        switch (words.get(0)) {
+            case "stop" -> {
+                out.println("Test daemon stopping");
+                out.println("EXIT 0");
+                return false;
+            }
+            case "run" -> {
+                if (words.size() < 2) {
+                    out.println("Usage: run <suite.xml | Class | Class#method[,...]> [key=value ...]");
+                    out.println("EXIT 2");
+                } else {
+                    int status = run(words.get(1), words.subList(2, words.size()), out);
+                    out.println("EXIT " + status);
+                }
+                return true;
+            }
+            default -> {
+                out.println("Unknown request: " + words.get(0));
+                out.println("EXIT 2");
+                return true;
+            }
+        }
+    }
+
+    private static int run(String target, List<String> overrides, PrintWriter out) {
+        long start = System.nanoTime();
+        Map<String, String> previous = applyOverrides(overrides);
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        try (TestClassLoader loader = new TestClassLoader(TEST_CLASSES.toUri().toURL(), original)) {
+            thread.setContextClassLoader(loader);
+            ExecutionMetrics.reset();
+
+            TestNG testng = new TestNG();
+            testng.addClassLoader(loader);
+            if (target.endsWith(".xml")) {
+                testng.setTestSuites(List.of(target));
+            } else {
+                testng.setXmlSuites(List.of(suiteFor(target)));
+            }
+            testng.setOutputDirectory(Paths.get("target", "test-daemon").toString());
+            testng.addListener(new StreamingResultListener(out));
+            out.println("Running " + target);
+            testng.run();
+            out.printf("Finished in %.1f s%n", (System.nanoTime() - start) / 1e9);
+            return testng.getStatus();
+        } catch (IOException | RuntimeException e) {
+            out.println("Run failed: " + e);
+            return 1;
+        } finally {
+            thread.setContextClassLoader(original);
+            restore(previous);
+        }
+    }
+
+    /**
+     * Builds a single-test suite for {@code Class} and {@code Class#method} targets.
+     */
+    private static XmlSuite suiteFor(String target) {
+        Map<String, List<String>> methodsByClass = new LinkedHashMap<>();
+        for (String part : target.split(",")) {
+            String[] classAndMethod = part.split("#", 2);
+            List<String> methods = methodsByClass.computeIfAbsent(resolveClass(classAndMethod[0]), key -> new ArrayList<>());
+            if (classAndMethod.length == 2) {
+                methods.add(classAndMethod[1]);
+            }
+        }
+        XmlSuite suite = new XmlSuite();
+        suite.setName("Test daemon");
+        suite.setListeners(SUITE_LISTENERS);
+        XmlTest test = new XmlTest(suite);
+        test.setName(target);
+        List<XmlClass> classes = new ArrayList<>();
+        methodsByClass.forEach((name, methods) -> {
+            XmlClass xmlClass = new XmlClass(name);
+            xmlClass.setIncludedMethods(methods.stream().map(XmlInclude::new).collect(Collectors.toList()));
+            classes.add(xmlClass);
+        });
+        test.setXmlClasses(classes);
+        return suite;
+    }
+
+    /**
+     * Resolves a simple class name against the compiled test classes; qualified names are kept.
+     */
+    private static String resolveClass(String name) {
+        if (name.contains(".")) {
+            return name;
+        }
+        try (Stream<Path> files = Files.walk(TEST_CLASSES)) {
+            List<String> matches = files
+                    .filter(file -> file.getFileName().toString().equals(name + ".class"))
+                    .map(file -> TEST_CLASSES.relativize(file).toString().replace(".class", "")
+                            .replace(file.getFileSystem().getSeparator(), "."))
+                    .collect(Collectors.toList());
+            if (matches.size() != 1) {
+                throw new IllegalArgumentException(matches.isEmpty()
+                        ? "No test class named " + name + " in " + TEST_CLASSES
+                        : "Ambiguous test class " + name + ": " + matches);
+            }
+            return matches.get(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot scan " + TEST_CLASSES, e);
+        }
+    }
+
+    private static Map<String, String> applyOverrides(List<String> overrides) {
+        Map<String, String> previous = new HashMap<>();
+        for (String override : overrides) {
+            String[] keyValue = override.split("=", 2);
+            if (keyValue.length == 2) {
+                previous.put(keyValue[0], System.getProperty(keyValue[0]));
+                System.setProperty(keyValue[0], keyValue[1]);
+            }
+        }
+        return previous;
+    }
+
+    private static void restore(Map<String, String> previous) {
+        previous.forEach((key, value) -> {
+            if (value == null) {
+                System.clearProperty(key);
+            } else {
+                System.setProperty(key, value);
+            }
+        });
+    }
+
+    /**
+     * Loads the compiled test classes afresh, child-first, and everything else from the daemon.
+     */
+    private static final class TestClassLoader extends URLClassLoader {
+
+        private TestClassLoader(URL testClasses, ClassLoader parent) {
+            super(new URL[] {testClasses}, parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded == null && findResource(name.replace('.', '/') + ".class") != null) {
+                    loaded = findClass(name);
+                }
+                if (loaded == null) {
+                    return super.loadClass(name, resolve);
+                }
+                if (resolve) {
+                    resolveClass(loaded);
+                }
+                return loaded;
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.liftofftech.falcon.core.driver;
+
+import com.liftofftech.falcon.core.config.FrameworkConfig;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.edge.EdgeOptions;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Browser options built once per combination of settings and shared by every session of the JVM.
+ * The cache is keyed by everything the options are built from (browser, platform, headless,
+ * window size, session timeouts and mobile emulation), so a setting changed at run time, such
+ * as a test daemon override, gets options built with it. The shared instances are immutable,
+ * so threads cannot change each other's options; {@link #chrome}, {@link #edge} and
+ * {@link #withUserDataDir} hand out mutable copies.
+ */
+public final class BrowserCapabilities {
+
+    private static final Map<String, Capabilities> CACHE = new ConcurrentHashMap<>();
+
+    private BrowserCapabilities() {
+        // utility
+    }
+
+    /**
+     * Returns the shared capabilities for the browser and platform.
+     *
+     * @param browser the browser type
+     * @param platform the platform type
+     * @return precomputed, shared and immutable capabilities
+     */
+    public static Capabilities of(BrowserType browser, PlatformType platform) {
+        return CACHE.computeIfAbsent(settings(browser, platform),
+                key -> new ImmutableCapabilities(build(browser, platform)));
+    }
+
+    /**
+     * Returns a copy of the shared Chrome options that the caller may change.
+     */
+    static ChromeOptions chrome(PlatformType platform) {
+        return new ChromeOptions().merge(of(BrowserType.CHROME, platform));
+    }
+
+    /**
+     * Returns a copy of the shared Edge options that the caller may change.
+     */
+    static EdgeOptions edge(PlatformType platform) {
+        return new EdgeOptions().merge(of(BrowserType.EDGE, platform));
+    }
+
+    /**
+     * Returns a per-session copy of the shared options that runs the browser on the given profile.
+     *
+     * @param browser the browser type
+     * @param platform the platform type
+     * @param userDataDir profile directory for this session
+     * @return options owned by the caller
+     */
+    static ChromiumOptions<?> withUserDataDir(BrowserType browser, PlatformType platform, Path userDataDir) {
+        ChromiumOptions<?> copy = switch (browser) {
+            case EDGE -> edge(platform);
+            case CHROME -> chrome(platform);
+        };
+        copy.addArguments("--user-data-dir=" + userDataDir.toAbsolutePath());
+        return copy;
+    }
+
+    /**
+     * Mobile emulation settings used for mWeb sessions.
+     */
+    static Map<String, Object> mobileEmulation() {
+        Map<String, Object> mobileEmulation = new HashMap<>();
+
+        // Chrome mobile emulation: Use either deviceName OR deviceMetrics+userAgent, not both
+        // Option 1: Use predefined device name (simpler, uses Chrome's built-in device metrics)
+        String deviceName = FrameworkConfig.mobileDeviceName();
+        if (deviceName != null && !deviceName.isEmpty()) {
+            mobileEmulation.put("deviceName", deviceName);
+        } else {
+            // Option 2: Use custom device metrics and user agent
+            Map<String, Object> deviceMetrics = new HashMap<>();
+            deviceMetrics.put("width", FrameworkConfig.mobileWidth());
+            deviceMetrics.put("height", FrameworkConfig.mobileHeight());
+            deviceMetrics.put("pixelRatio", FrameworkConfig.mobilePixelRatio());
+            mobileEmulation.put("deviceMetrics", deviceMetrics);
+            mobileEmulation.put("userAgent", FrameworkConfig.mobileUserAgent());
+        }
+        return Collections.unmodifiableMap(mobileEmulation);
+    }
+
+    /**
+     * Sets the configured implicit wait and page-load timeout as session capabilities.
+     */
+    static void applySessionTimeouts(ChromiumOptions<?> options) {
+        options.setImplicitWaitTimeout(FrameworkConfig.implicitWait());
+        options.setPageLoadTimeout(FrameworkConfig.pageLoadTimeout());
+        options.setScriptTimeout(FrameworkConfig.scriptTimeout());
+    }
+
+    /**
+     * Returns every setting {@link #build} reads, as the cache key.
+     */
+    private static String settings(BrowserType browser, PlatformType platform) {
+        return String.join("|", browser.name(), platform.name(), String.valueOf(FrameworkConfig.headless()),
+                FrameworkConfig.browserWindowSize(), FrameworkConfig.implicitWait().toString(),
+                FrameworkConfig.pageLoadTimeout().toString(), FrameworkConfig.scriptTimeout().toString(),
+                platform == PlatformType.MWEB ? mobileEmulation().toString() : "");
+    }
+
+    private static ChromiumOptions<?> build(BrowserType browser, PlatformType platform) {
+        return switch (browser) {
+            case EDGE -> buildEdgeOptions(platform);
+            case CHROME -> buildChromeOptions(platform);
+        };
+    }
+
+    private static ChromeOptions buildChromeOptions(PlatformType platform) {
+        ChromeOptions options = new ChromeOptions();
+        applyCommonOptions(options, platform);
+        if (platform == PlatformType.MWEB) {
+            options.setExperimentalOption("mobileEmulation", mobileEmulation());
+        }
+        return options;
+    }
+
+    private static EdgeOptions buildEdgeOptions(PlatformType platform) {
+        EdgeOptions options = new EdgeOptions();
+        applyCommonOptions(options, platform);
+        return options;
+    }
+
+    private static void applyCommonOptions(ChromiumOptions<?> options, PlatformType platform) {
+        // Applied when the session is created, so tests skip the extra round trips after launch
+        applySessionTimeouts(options);
+        if (platform == PlatformType.DWEB) {
+            options.addArguments("--window-size=" + FrameworkConfig.browserWindowSize());
+            options.addArguments("--start-maximized");
+        }
+        options.addArguments("--disable-notifications");
+        options.addArguments("--disable-dev-shm-usage");
+        options.addArguments("--no-sandbox");
+        // Reduce resource usage for parallel execution
+        options.addArguments("--disable-gpu");
+        options.addArguments("--disable-software-rasterizer");
+        options.addArguments("--disable-extensions");
+        // Prevent browser crashes during parallel execution
+        options.addArguments("--disable-background-timer-throttling");
+        options.addArguments("--disable-backgrounding-occluded-windows");
+        options.addArguments("--disable-renderer-backgrounding");
+        // Skip first-run and background work that slows every cold start
+        options.addArguments("--no-first-run");
+        options.addArguments("--no-default-browser-check");
+        options.addArguments("--disable-background-networking");
+        options.addArguments("--disable-component-update");
+        options.addArguments("--disable-sync");
+        options.addArguments("--disable-default-apps");
+        if (FrameworkConfig.headless()) {
+            options.addArguments("--headless=new");
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.liftofftech.falcon.core.driver;
+
+import com.liftofftech.falcon.core.config.FrameworkConfig;
+import com.liftofftech.falcon.core.reporting.ExecutionMetrics;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.support.decorators.Decorated;
+import org.openqa.selenium.support.decorators.WebDriverDecorator;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Provides sessions as isolated DevTools browser contexts (the isolation used by
+ * incognito windows) hosted by a small number of shared browser processes.
+ * Each context is driven by its own lightweight driver session attached to the host,
+ * so page objects still see an ordinary {@link WebDriver}; that driver only sees the
+ * windows of its own context. Quitting it disposes the context and frees its slot on the host.
+ */
+public final class BrowserContextManager {
+
+    private static final List<ContextHost> HOSTS = new ArrayList<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(BrowserContextManager::shutdown, "browser-context-shutdown"));
+    }
+
+    private BrowserContextManager() {
+        // utility
+    }
+
+    /**
+     * Creates a fresh browser context on the least loaded host, launching a new host
+     * browser when every host is at {@code browser.contexts.per.process} capacity.
+     *
+     * @return a driver whose only window lives in the new context
+     */
+    public static WebDriver openContext() {
+        if (FrameworkConfig.remoteExecution()) {
+            throw new IllegalStateException("execution.mode=context requires local execution (remote=false).");
+        }
+        long start = System.nanoTime();
+        ContextHost host = reserveSlot();
+        try {
+            WebDriver driver = openContextOn(host);
+            ExecutionMetrics.recordTime("browser.context.open", System.nanoTime() - start);
+            return driver;
+        } catch (RuntimeException e) {
+            releaseSlot(host);
+            if (!host.isAlive()) {
+                removeHost(host);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Quits every host browser. Contexts still open are destroyed with their host.
+     */
+    public static void shutdown() {
+        List<ContextHost> hosts;
+        synchronized (HOSTS) {
+            hosts = new ArrayList<>(HOSTS);
+            HOSTS.clear();
+        }
+        for (ContextHost host : hosts) {
+            try {
+                DriverResources.quit(host.driver);
+            } catch (RuntimeException e) {
+                System.err.println("Context host quit warning: " + e.getMessage());
+            }
+        }
+    }
+
+    private static WebDriver openContextOn(ContextHost host) {
+        WebDriver attached = DriverFactory.attachDriver(FrameworkConfig.browser(), host.debuggerAddress);
+        try {
+            HasCdp cdp = (HasCdp) attached;
+            String contextId = (String) cdp.executeCdpCommand("Target.createBrowserContext",
+                    Map.of("disposeOnDetach", false)).get("browserContextId");
+            ContextReleaser releaser = new ContextReleaser(host, contextId, cdp);
+            attached.switchTo().window(releaser.createTarget(false));
+            ExecutionMetrics.increment("browser.context.created");
+            return releaser.decorate(attached);
+        } catch (RuntimeException e) {
+            attached.quit();
+            throw e;
+        }
+    }
+
+    private static ContextHost reserveSlot() {
+        int capacity = FrameworkConfig.contextsPerBrowser();
+        synchronized (HOSTS) {
+            ContextHost host = HOSTS.stream()
+                    .filter(candidate -> candidate.activeContexts < capacity)
+                    .min(Comparator.comparingInt(candidate -> candidate.activeContexts))
+                    .orElse(null);
+            if (host != null) {
+                host.activeContexts++;
+                return host;
+            }
+        }
+        // Launch outside the lock so other workers can keep using existing hosts meanwhile
+        ContextHost host = launchHost();
+        synchronized (HOSTS) {
+            host.activeContexts++;
+            HOSTS.add(host);
+        }
+        return host;
+    }
+
+    private static void releaseSlot(ContextHost host) {
+        synchronized (HOSTS) {
+            host.activeContexts--;
+        }
+    }
+
+    private static void removeHost(ContextHost host) {
+        synchronized (HOSTS) {
+            HOSTS.remove(host);
+        }
+        try {
+            DriverResources.quit(host.driver);
+        } catch (RuntimeException ignored) {
+            // host already gone
+        }
+    }
+
+    private static ContextHost launchHost() {
+        long start = System.nanoTime();
+        WebDriver driver = DriverFactory.createDriver();
+        String debuggerAddress = BrowserProcess.debuggerAddress(driver);
+        if (debuggerAddress == null) {
+            DriverResources.quit(driver);
+            throw new IllegalStateException("Browser did not report a DevTools debugger address.");
+        }
+        ExecutionMetrics.recordTime("browser.context.host.launch", System.nanoTime() - start);
+        return new ContextHost(driver, debuggerAddress);
+    }
+
+    private static final class ContextHost {
+
+        private final WebDriver driver;
+        private final String debuggerAddress;
+        private int activeContexts;
+
+        private ContextHost(WebDriver driver, String debuggerAddress) {
+            this.driver = driver;
+            this.debuggerAddress = debuggerAddress;
+        }
+
+        private boolean isAlive() {
+            try {
+                driver.getWindowHandles();
+                return true;
+            } catch (RuntimeException e) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Confines the attached session to its browser context, and disposes the context and frees
+     * its host slot when the session quits. The attached session can reach every window on the
+     * host, so windows of other contexts are left out of {@code getWindowHandles()}, switching
+     * to them is refused and new windows are opened inside the context.
+     */
+    private static final class ContextReleaser extends WebDriverDecorator<WebDriver> {
+
+        private final ContextHost host;
+        private final String contextId;
+        private final HasCdp cdp;
+
+        private ContextReleaser(ContextHost host, String contextId, HasCdp cdp) {
+            this.host = host;
+            this.contextId = contextId;
+            this.cdp = cdp;
+        }
+
+        @Override
+        public Object call(Decorated<?> target, Method method, Object[] args) throws Throwable {
+            Object original = target.getOriginal();
+            if (original instanceof WebDriver) {
+                switch (method.getName()) {
+                    case "getWindowHandles" -> {
+                        Set<String> handles = new LinkedHashSet<>(((WebDriver) original).getWindowHandles());
+                        handles.retainAll(contextTargets());
+                        return handles;
+                    }
+                    case "quit" -> dispose();
+                    default -> {
+                        // passed through
+                    }
+                }
+            } else if (original instanceof WebDriver.TargetLocator) {
+                switch (method.getName()) {
+                    case "window" -> {
+                        if (!contextTargets().contains((String) args[0])) {
+                            throw new NoSuchWindowException("Window " + args[0] + " belongs to another browser context.");
+                        }
+                    }
+                    case "newWindow" -> {
+                        String targetId = createTarget(args[0] == WindowType.WINDOW);
+                        return super.call(target, WebDriver.TargetLocator.class.getMethod("window", String.class),
+                                new Object[] {targetId});
+                    }
+                    default -> {
+                        // passed through
+                    }
+                }
+            }
+            return super.call(target, method, args);
+        }
+
+        /**
+         * Opens a blank page in the context; window handles are the page's DevTools target ID.
+         */
+        private String createTarget(boolean newWindow) {
+            return (String) cdp.executeCdpCommand("Target.createTarget",
+                    Map.of("url", "about:blank", "browserContextId", contextId, "newWindow", newWindow)).get("targetId");
+        }
+
+        @SuppressWarnings("unchecked")
+        private Set<String> contextTargets() {
+            List<Map<String, Object>> targets = (List<Map<String, Object>>) cdp.executeCdpCommand("Target.getTargets",
+                    Map.of()).get("targetInfos");
+            return targets.stream()
+                    .filter(info -> contextId.equals(info.get("browserContextId")))
+                    .map(info -> (String) info.get("targetId"))
+                    .collect(Collectors.toSet());
+        }
+
+        private void dispose() {
+            try {
+                cdp.executeCdpCommand("Target.disposeBrowserContext", Map.of("browserContextId", contextId));
+            } catch (RuntimeException e) {
+                System.err.println("Browser context dispose warning: " + e.getMessage());
+            } finally {
+                releaseSlot(host);
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.liftofftech.falcon.core.driver;
+
+import com.liftofftech.falcon.core.config.FrameworkConfig;
+import com.liftofftech.falcon.core.reporting.ExecutionMetrics;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.SessionId;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Leases warm browsers from the {@link BrowserLeaseDaemon} on this host. Each lease holds a
+ * connection to the daemon for its lifetime: quitting the driver returns the browser (reset by
+ * the daemon, or retired when discarded), and if this JVM dies the closed connection retires it.
+ */
+final class BrowserLeaseClient {
+
+    private static final Json JSON = new Json();
+    private static final Map<WebDriver, Lease> LEASES = new ConcurrentHashMap<>();
+
+    private BrowserLeaseClient() {
+        // utility
+    }
+
+    /**
+     * Leases a browser, waiting up to {@code lease.daemon.timeout} for one to become free.
+     *
+     * @return a driver attached to the leased browser session
+     */
+    static WebDriver lease() {
+        long start = System.nanoTime();
+        Lease lease = new Lease();
+        try {
+            lease.connect();
+            Map<String, Object> reply = lease.request(Map.of("op", "lease", "profile", BrowserLeaseDaemon.profile()));
+            if (reply.containsKey("error")) {
+                throw new WebDriverException("Browser lease refused: " + reply.get("error"));
+            }
+            @SuppressWarnings("unchecked")
+            Map<String, Object> capabilities = (Map<String, Object>) reply.get("capabilities");
+            LeasedSessionExecutor executor = new LeasedSessionExecutor(new URL((String) reply.get("serverUrl")),
+                    new SessionId((String) reply.get("sessionId")), capabilities, lease::release);
+            RemoteWebDriver driver = new RemoteWebDriver(executor, new ImmutableCapabilities(capabilities));
+            LEASES.put(driver, lease);
+            DriverResources.attach(driver, () -> LEASES.remove(driver));
+            ExecutionMetrics.recordTime("browser.lease.wait", System.nanoTime() - start);
+            return driver;
+        } catch (IOException | RuntimeException e) {
+            lease.close();
+            throw new WebDriverException("Could not lease a browser from the daemon on port "
+                    + FrameworkConfig.leaseDaemonPort() + "; is it running (-Pbrowser-lease-daemon)?", e);
+        }
+    }
+
+    /**
+     * Hands a leased browser back. The daemon resets it for the next lease unless it is discarded.
+     *
+     * @param driver  the leased driver
+     * @param discard true to have the daemon retire the browser (e.g. the test failed)
+     */
+    static void release(WebDriver driver, boolean discard) {
+        Lease lease = LEASES.get(driver);
+        if (lease != null) {
+            lease.discard = discard;
+        }
+        DriverResources.quit(driver);
+    }
+
+    /**
+     * One daemon connection, held open for the duration of a lease.
+     */
+    private static final class Lease {
+
+        private Socket socket;
+        private BufferedReader reader;
+        private Writer writer;
+        private volatile boolean discard;
+
+        private void connect() throws IOException {
+            socket = new Socket();
+            socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), FrameworkConfig.leaseDaemonPort()),
+                    (int) FrameworkConfig.leaseDaemonConnectTimeout().toMillis());
+            socket.setSoTimeout((int) FrameworkConfig.leaseDaemonTimeout().toMillis());
+            reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+        }
+
+        private Map<String, Object> request(Map<String, Object> message) throws IOException {
+            send(message);
+            String line = reader.readLine();
+            if (line == null) {
+                throw new IOException("Lease daemon closed the connection");
+            }
+            return JSON.toType(line, Json.MAP_TYPE);
+        }
+
+        private void send(Map<String, Object> message) throws IOException {
+            writer.write(JSON.toJson(message).replace('\n', ' '));
+            writer.write('\n');
+            writer.flush();
+        }
+
+        private void release() {
+            try {
+                send(Map.of("op", "release", "discard", discard));
+            } catch (IOException e) {
+                // The daemon retires the browser when the connection drops
+                System.err.println("Browser lease release warning: " + e.getMessage());
+            } finally {
+                close();
+            }
+        }
+
+        private void close() {
+            if (socket != null) {
+                try {
+                    socket.close();
+                } catch (IOException e) {
+                    // already closed
+                }
+            }
+        }
+    }
+}
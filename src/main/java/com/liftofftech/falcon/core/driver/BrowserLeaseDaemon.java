@@ -0,0 +1,142 @@
+package com.liftofftech.falcon.core.driver;
+
+import com.liftofftech.falcon.core.config.FrameworkConfig;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Host-wide pool of warm browsers shared by every framework JVM on the machine (one surefire
+ * run per suite, say). It keeps a {@link DriverPool} of reset sessions, sized and reset by the
+ * usual {@code driver.pool.*} settings, and leases them over a loopback socket to runs with
+ * {@code execution.mode=lease}. A lease lasts as long as its connection: a {@code release}
+ * message returns the browser, which is reset for the next lease unless the client discarded
+ * it; a dropped connection retires it.
+ * <p>
+ * Protocol: one JSON object per line. The client sends
+ * {@code {"op":"lease","profile":"chrome/desktop/headless"}} and gets
+ * {@code {"serverUrl":...,"sessionId":...,"capabilities":{...}}} or {@code {"error":...}},
+ * then later {@code {"op":"release","discard":false}}. Clients must use the same browser,
+ * platform and headless settings as the daemon.
+ *
+ * <p>Run with {@code mvn test-compile exec:java -Pbrowser-lease-daemon}.</p>
+ */
+public final class BrowserLeaseDaemon {
+
+    private static final Json JSON = new Json();
+    private static final AtomicInteger ACTIVE = new AtomicInteger();
+
+    private BrowserLeaseDaemon() {
+        // utility
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (FrameworkConfig.executionMode() == ExecutionMode.LEASE) {
+            System.setProperty("execution.mode", ExecutionMode.PROCESS.name().toLowerCase(Locale.ROOT));
+        }
+        int port = FrameworkConfig.leaseDaemonPort();
+        ExecutorService connections = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "browser-lease");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (ServerSocket server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress())) {
+            System.out.println("Browser lease daemon serving " + profile() + " on port " + port
+                    + " (pool size " + FrameworkConfig.driverPoolSize() + ")");
+            if (FrameworkConfig.driverPoolPrewarm()) {
+                DriverPool.prewarm(FrameworkConfig.driverPoolSize());
+            }
+            while (!server.isClosed()) {
+                Socket socket = server.accept();
+                connections.execute(() -> serve(socket));
+            }
+        } finally {
+            connections.shutdownNow();
+            DriverPool.shutdown();
+        }
+    }
+
+    /**
+     * Returns the settings a leased browser was launched with, which client and daemon must share.
+     */
+    static String profile() {
+        return DriverPool.profile();
+    }
+
+    private static void serve(Socket socket) {
+        WebDriver driver = null;
+        boolean discard = true;
+        try (socket) {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            Writer writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+            Map<String, Object> request = read(reader);
+            if (request == null || !"lease".equals(request.get("op"))) {
+                reply(writer, Map.of("error", "expected a lease request"));
+                return;
+            }
+            if (!profile().equals(request.get("profile"))) {
+                reply(writer, Map.of("error", "daemon serves " + profile() + ", client wants " + request.get("profile")));
+                return;
+            }
+
+            driver = DriverPool.lease();
+            Map<String, Object> lease = new LinkedHashMap<>();
+            lease.put("serverUrl", serverUrl(driver));
+            lease.put("sessionId", ((RemoteWebDriver) driver).getSessionId().toString());
+            lease.put("capabilities", ((HasCapabilities) driver).getCapabilities().asMap());
+            reply(writer, lease);
+            System.out.println("Leased " + lease.get("sessionId") + " (" + ACTIVE.incrementAndGet() + " active)");
+
+            Map<String, Object> release = read(reader);
+            discard = release == null || !"release".equals(release.get("op")) || Boolean.TRUE.equals(release.get("discard"));
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Browser lease failed: " + e.getMessage());
+        } finally {
+            if (driver != null) {
+                ACTIVE.decrementAndGet();
+                DriverPool.release(driver, discard);
+            }
+        }
+    }
+
+    /**
+     * Returns the URL of the driver server that owns the session.
+     */
+    private static String serverUrl(WebDriver driver) {
+        CommandExecutor executor = ((RemoteWebDriver) driver).getCommandExecutor();
+        if (!(executor instanceof HttpCommandExecutor)) {
+            throw new IllegalStateException("Cannot lease a session without an HTTP driver server");
+        }
+        return ((HttpCommandExecutor) executor).getAddressOfRemoteServer().toString();
+    }
+
+    private static Map<String, Object> read(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        return line == null ? null : JSON.toType(line, Json.MAP_TYPE);
+    }
+
+    private static void reply(Writer writer, Map<String, Object> message) throws IOException {
+        writer.write(JSON.toJson(message).replace('\n', ' '));
+        writer.write('\n');
+        writer.flush();
+    }
+}
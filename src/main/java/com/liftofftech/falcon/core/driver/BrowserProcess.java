@@ -0,0 +1,101 @@
+package com.liftofftech.falcon.core.driver;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.edge.EdgeOptions;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Locates the local browser process behind a Chromium session, using what the driver
+ * reports in the session capabilities: the DevTools debugger address and the user-data-dir.
+ */
+final class BrowserProcess {
+
+    private BrowserProcess() {
+        // utility
+    }
+
+    /**
+     * Returns the {@code host:port} of the browser's DevTools endpoint.
+     *
+     * @return debugger address, or null for non-Chromium or remote sessions
+     */
+    static String debuggerAddress(WebDriver driver) {
+        return vendorCapability(driver, List.of(ChromeOptions.CAPABILITY, EdgeOptions.CAPABILITY), "debuggerAddress");
+    }
+
+    /**
+     * Returns the user-data-dir the browser was started with, which uniquely
+     * identifies its processes on this host.
+     *
+     * @return profile directory, or null if the driver does not report it
+     */
+    static String userDataDir(WebDriver driver) {
+        return vendorCapability(driver, List.of("chrome", "msedge"), "userDataDir");
+    }
+
+    /**
+     * Forcibly terminates every process started with the given user-data-dir, and their descendants.
+     *
+     * @return number of processes killed
+     */
+    static int kill(String userDataDir) {
+        String marker = "--user-data-dir=" + userDataDir;
+        List<ProcessHandle> browsers = ProcessHandle.allProcesses()
+                .filter(process -> hasArgument(process, marker))
+                .collect(Collectors.toList());
+        int killed = 0;
+        for (ProcessHandle browser : browsers) {
+            List<ProcessHandle> descendants = browser.descendants().collect(Collectors.toList());
+            if (browser.destroyForcibly()) {
+                killed++;
+            }
+            for (ProcessHandle descendant : descendants) {
+                if (descendant.destroyForcibly()) {
+                    killed++;
+                }
+            }
+        }
+        return killed;
+    }
+
+    /**
+     * Returns whether the process was started with exactly this argument. A substring match
+     * is not enough: killing the session on {@code chrome-1234-1} must spare {@code chrome-1234-10}.
+     */
+    private static boolean hasArgument(ProcessHandle process, String argument) {
+        ProcessHandle.Info info = process.info();
+        Optional<String[]> arguments = info.arguments();
+        if (arguments.isPresent()) {
+            return Arrays.asList(arguments.get()).contains(argument);
+        }
+        return info.commandLine()
+                .map(line -> line.endsWith(" " + argument) || line.contains(" " + argument + " "))
+                .orElse(false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String vendorCapability(WebDriver driver, List<String> vendorKeys, String name) {
+        if (!(driver instanceof HasCapabilities)) {
+            return null;
+        }
+        Capabilities capabilities = ((HasCapabilities) driver).getCapabilities();
+        for (String key : vendorKeys) {
+            Object vendorOptions = capabilities.getCapability(key);
+            if (vendorOptions instanceof Map) {
+                Object value = ((Map<String, Object>) vendorOptions).get(name);
+                if (value != null) {
+                    return value.toString();
+                }
+            }
+        }
+        return null;
+    }
+}
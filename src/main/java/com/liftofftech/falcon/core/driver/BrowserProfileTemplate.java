@@ -0,0 +1,278 @@
+package com.liftofftech.falcon.core.driver;
+
+import com.liftofftech.falcon.core.config.FrameworkConfig;
+import com.liftofftech.falcon.core.reporting.ExecutionMetrics;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Pre-initialized browser profile that sessions start from instead of an empty
+ * user-data-dir. The template is built once (first-run setup, component registration
+ * and cache creation happen there) and kept under {@code browser.profile.template.dir}
+ * across runs. Each session gets a throwaway clone in {@code browser.profile.clone.dir}
+ * (tmpfs by default). With the default directories the clone is a full copy into memory,
+ * since the template lives on disk; only when both directories sit on the same
+ * copy-on-write filesystem (btrfs, XFS) does {@code cp --reflink=auto} share blocks instead.
+ * A clone goes to {@code java.io.tmpdir} instead when the clone directory lacks room for it,
+ * e.g. the 64 MB {@code /dev/shm} of a default Docker container.
+ */
+final class BrowserProfileTemplate {
+
+    private static final String READY_MARKER = ".falcon-template-ready";
+    private static final List<String> LOCK_FILES = List.of("SingletonLock", "SingletonCookie", "SingletonSocket");
+    private static final List<String> DISPOSABLE_DIRS = List.of("Crashpad", "Default/Cache", "Default/Code Cache");
+    private static final Set<BrowserType> READY = EnumSet.noneOf(BrowserType.class);
+    private static final AtomicLong CLONE_SEQUENCE = new AtomicLong();
+    private static final long PID = ProcessHandle.current().pid();
+    /** Free space a clone needs relative to the template, as the browser's profile grows while it runs. */
+    private static final int CLONE_HEADROOM = 2;
+    private static final Map<BrowserType, Long> TEMPLATE_SIZES = new EnumMap<>(BrowserType.class);
+
+    private static boolean staleClonesSwept;
+
+    private BrowserProfileTemplate() {
+        // utility
+    }
+
+    /**
+     * Returns a fresh clone of the browser's template, building the template first if needed.
+     * The caller owns the clone and must {@link #delete(Path)} it when the session ends.
+     *
+     * @param browser the browser type
+     * @return path of the cloned user-data-dir
+     */
+    static Path cloneFor(BrowserType browser) {
+        Path template = ensureTemplate(browser);
+        Path clone = cloneDirWithRoomFor(browser, template).resolve(browser.name().toLowerCase(Locale.ROOT) + "-"
+                + PID + "-" + CLONE_SEQUENCE.incrementAndGet());
+        ExecutionMetrics.time("browser.profile.clone", () -> {
+            copy(template, clone);
+            return clone;
+        });
+        return clone;
+    }
+
+    /**
+     * Removes a cloned profile directory. Failures are logged, never thrown.
+     */
+    static void delete(Path directory) {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException | UncheckedIOException e) {
+            System.err.println("Failed to delete browser profile " + directory + ": " + e.getMessage());
+        }
+    }
+
+    private static Path ensureTemplate(BrowserType browser) {
+        Path template = Paths.get(FrameworkConfig.browserProfileTemplateDir(), browser.name().toLowerCase(Locale.ROOT));
+        synchronized (READY) {
+            if (!staleClonesSwept) {
+                sweepStaleClones();
+                staleClonesSwept = true;
+            }
+            if (READY.contains(browser) || Files.exists(template.resolve(READY_MARKER))) {
+                READY.add(browser);
+                return template;
+            }
+            ExecutionMetrics.time("browser.profile.template.build", () -> {
+                build(browser, template);
+                return template;
+            });
+            READY.add(browser);
+            return template;
+        }
+    }
+
+    /**
+     * Starts the browser once on an empty profile so it performs its first-run work,
+     * then publishes the result atomically so concurrent runs never see a half-built template.
+     */
+    private static void build(BrowserType browser, Path template) {
+        Path staging;
+        try {
+            Files.createDirectories(template.toAbsolutePath().getParent());
+            staging = Files.createTempDirectory(template.toAbsolutePath().getParent(), "template-");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create browser profile template under " + template.getParent(), e);
+        }
+        System.out.println("Building " + browser + " profile template in " + template);
+        try {
+            WebDriver driver = DriverFactory.startBrowser(browser, BrowserCapabilities.withUserDataDir(browser,
+                    FrameworkConfig.platform(), staging));
+            try {
+                driver.get("about:blank");
+            } finally {
+                DriverResources.quit(driver);
+            }
+            for (String disposable : DISPOSABLE_DIRS) {
+                delete(staging.resolve(disposable));
+            }
+            LOCK_FILES.forEach(lock -> staging.resolve(lock).toFile().delete());
+            Files.createFile(staging.resolve(READY_MARKER));
+            Files.move(staging, template, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            if (Files.exists(template.resolve(READY_MARKER))) {
+                // Another run published its template first
+                delete(staging);
+                return;
+            }
+            delete(staging);
+            throw new UncheckedIOException("Failed to publish browser profile template " + template, e);
+        } catch (RuntimeException e) {
+            delete(staging);
+            throw e;
+        }
+    }
+
+    private static void copy(Path source, Path target) {
+        try {
+            Files.createDirectories(target.getParent());
+            if (!copyWithCp(source, target)) {
+                try (Stream<Path> paths = Files.walk(source)) {
+                    for (Path path : (Iterable<Path>) paths::iterator) {
+                        Files.copy(path, target.resolve(source.relativize(path).toString()),
+                                StandardCopyOption.COPY_ATTRIBUTES);
+                    }
+                }
+            }
+            LOCK_FILES.forEach(lock -> target.resolve(lock).toFile().delete());
+        } catch (IOException e) {
+            delete(target);
+            throw new UncheckedIOException("Failed to clone browser profile template " + source, e);
+        }
+    }
+
+    /**
+     * Copies with GNU cp, which clones instead of copying data when source and target share
+     * a reflink-capable filesystem.
+     *
+     * @return false when cp is unavailable or failed, so the caller falls back to a plain copy
+     */
+    private static boolean copyWithCp(Path source, Path target) {
+        if (!System.getProperty("os.name").toLowerCase(Locale.ROOT).contains("linux")) {
+            return false;
+        }
+        try {
+            Process process = new ProcessBuilder("cp", "-a", "--reflink=auto", source.toString(), target.toString())
+                    .redirectErrorStream(true)
+                    .start();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                delete(target);
+                return false;
+            }
+            if (process.exitValue() != 0) {
+                delete(target);
+                return false;
+            }
+            return true;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Returns the clone directory, or the fallback under {@code java.io.tmpdir} when the clone
+     * directory's filesystem has less than {@link #CLONE_HEADROOM} times the template's size free.
+     */
+    private static Path cloneDirWithRoomFor(BrowserType browser, Path template) {
+        Path cloneDir = cloneDir();
+        long needed;
+        synchronized (TEMPLATE_SIZES) {
+            needed = CLONE_HEADROOM * TEMPLATE_SIZES.computeIfAbsent(browser, key -> sizeOf(template));
+        }
+        long usable = usableSpace(cloneDir);
+        if (usable >= needed || cloneDir.equals(fallbackCloneDir())) {
+            return cloneDir;
+        }
+        System.err.println("Only " + usable / (1024 * 1024) + " MB free in " + cloneDir + ", cloning the "
+                + browser + " profile into " + fallbackCloneDir() + " instead.");
+        ExecutionMetrics.increment("browser.profile.clone.fallback");
+        return fallbackCloneDir();
+    }
+
+    /**
+     * Returns the usable space of the filesystem holding the directory, or of its nearest
+     * existing parent when the directory has not been created yet.
+     */
+    private static long usableSpace(Path directory) {
+        Path existing = directory.toAbsolutePath();
+        while (existing != null && !Files.exists(existing)) {
+            existing = existing.getParent();
+        }
+        if (existing == null) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Files.getFileStore(existing).getUsableSpace();
+        } catch (IOException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static long sizeOf(Path directory) {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(Files::isRegularFile).mapToLong(path -> path.toFile().length()).sum();
+        } catch (IOException | UncheckedIOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Deletes clones left behind by runs whose JVM no longer exists (e.g. killed CI jobs).
+     */
+    private static void sweepStaleClones() {
+        for (Path cloneDir : Stream.of(cloneDir(), fallbackCloneDir()).distinct().toList()) {
+            if (!Files.isDirectory(cloneDir)) {
+                continue;
+            }
+            try (Stream<Path> clones = Files.list(cloneDir)) {
+                clones.filter(BrowserProfileTemplate::isOrphaned).forEach(BrowserProfileTemplate::delete);
+            } catch (IOException e) {
+                System.err.println("Failed to sweep stale browser profiles in " + cloneDir + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private static boolean isOrphaned(Path clone) {
+        String[] parts = clone.getFileName().toString().split("-");
+        if (parts.length != 3) {
+            return false;
+        }
+        try {
+            return ProcessHandle.of(Long.parseLong(parts[1])).map(process -> !process.isAlive()).orElse(true);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static Path cloneDir() {
+        return Paths.get(FrameworkConfig.browserProfileCloneDir());
+    }
+
+    private static Path fallbackCloneDir() {
+        return Paths.get(System.getProperty("java.io.tmpdir"), "falcon-profiles");
+    }
+}
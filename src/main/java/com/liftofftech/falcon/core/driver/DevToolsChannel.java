@@ -0,0 +1,170 @@
+package com.liftofftech.falcon.core.driver;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.liftofftech.falcon.core.utils.JsonUtils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A DevTools WebSocket connection to a browser, attached to one page target with a
+ * flattened session. Commands are correlated by id, so several threads may share it.
+ */
+final class DevToolsChannel implements WebSocket.Listener {
+
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final AtomicInteger nextId = new AtomicInteger();
+    private final Map<Integer, CompletableFuture<JsonNode>> pending = new ConcurrentHashMap<>();
+    private final StringBuilder partial = new StringBuilder();
+    private WebSocket socket;
+    private String sessionId;
+
+    private DevToolsChannel() {
+        // created through open()
+    }
+
+    /**
+     * Connects to the browser endpoint and attaches to the given page target.
+     *
+     * @param browserWebSocketUrl browser-level DevTools WebSocket URL
+     * @param targetId            target to attach to (a window handle on Chromium)
+     * @param timeout             connect and attach timeout
+     */
+    static DevToolsChannel open(String browserWebSocketUrl, String targetId, Duration timeout) throws IOException {
+        DevToolsChannel channel = new DevToolsChannel();
+        try {
+            channel.socket = CLIENT.newWebSocketBuilder()
+                    .connectTimeout(timeout)
+                    .buildAsync(URI.create(browserWebSocketUrl), channel)
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            channel.sessionId = channel.send(null, "Target.attachToTarget",
+                    Map.of("targetId", targetId, "flatten", true), timeout).path("sessionId").asText(null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while connecting to DevTools", e);
+        } catch (ExecutionException | TimeoutException e) {
+            channel.close();
+            throw new IOException("DevTools connection to " + browserWebSocketUrl + " failed", e);
+        }
+        if (channel.sessionId == null) {
+            channel.close();
+            throw new IOException("DevTools did not attach to target " + targetId);
+        }
+        return channel;
+    }
+
+    /**
+     * Returns the browser-level WebSocket URL of a local browser's DevTools endpoint.
+     *
+     * @param debuggerAddress {@code host:port} the browser listens on
+     */
+    static String browserWebSocketUrl(String debuggerAddress, Duration timeout) throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://" + debuggerAddress + "/json/version"))
+                .timeout(timeout)
+                .GET()
+                .build();
+        try {
+            String body = CLIENT.send(request, HttpResponse.BodyHandlers.ofString()).body();
+            String url = JsonUtils.parse(body).path("webSocketDebuggerUrl").asText(null);
+            if (url == null) {
+                throw new IOException("No webSocketDebuggerUrl at " + debuggerAddress);
+            }
+            return url;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading DevTools version", e);
+        }
+    }
+
+    /**
+     * Sends a command to the attached page and waits for its result.
+     *
+     * @return the command's {@code result} object
+     */
+    JsonNode call(String method, Map<String, Object> params, Duration timeout)
+            throws ExecutionException, TimeoutException, InterruptedException {
+        return send(sessionId, method, params, timeout);
+    }
+
+    boolean isOpen() {
+        return socket != null && !socket.isInputClosed() && !socket.isOutputClosed();
+    }
+
+    void close() {
+        if (socket != null) {
+            socket.abort();
+        }
+        pending.values().forEach(future -> future.completeExceptionally(new IOException("DevTools channel closed")));
+        pending.clear();
+    }
+
+    private JsonNode send(String session, String method, Map<String, Object> params, Duration timeout)
+            throws ExecutionException, TimeoutException, InterruptedException {
+        int id = nextId.incrementAndGet();
+        Map<String, Object> message = new HashMap<>();
+        message.put("id", id);
+        message.put("method", method);
+        message.put("params", params);
+        if (session != null) {
+            message.put("sessionId", session);
+        }
+        CompletableFuture<JsonNode> result = new CompletableFuture<>();
+        pending.put(id, result);
+        try {
+            synchronized (this) {
+                // A WebSocket accepts one outstanding send at a time
+                socket.sendText(JsonUtils.toJson(message), true).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            return result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } finally {
+            pending.remove(id);
+        }
+    }
+
+    @Override
+    public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+        partial.append(data);
+        if (last) {
+            JsonNode message = JsonUtils.parse(partial.toString());
+            partial.setLength(0);
+            CompletableFuture<JsonNode> future = message.has("id") ? pending.get(message.get("id").asInt()) : null;
+            if (future != null) {
+                if (message.has("error")) {
+                    future.completeExceptionally(new IOException(message.get("error").toString()));
+                } else {
+                    future.complete(message.path("result"));
+                }
+            }
+        }
+        webSocket.request(1);
+        return null;
+    }
+
+    @Override
+    public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+        close();
+        return null;
+    }
+
+    @Override
+    public void onError(WebSocket webSocket, Throwable error) {
+        close();
+    }
+}
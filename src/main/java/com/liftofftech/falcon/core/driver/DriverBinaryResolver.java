@@ -0,0 +1,159 @@
+package com.liftofftech.falcon.core.driver;
+
+import com.liftofftech.falcon.core.config.FrameworkConfig;
+import com.liftofftech.falcon.core.reporting.ExecutionMetrics;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.edge.EdgeDriverService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves driver executables once per JVM and remembers them across runs in a
+ * local cache file keyed by browser and installed browser version, so later runs
+ * skip WebDriverManager's version lookup (and its network calls) entirely.
+ * With {@code driver.offline=true} a cache miss fails immediately instead of
+ * waiting on the network.
+ */
+public final class DriverBinaryResolver {
+
+    private static final Pattern VERSION = Pattern.compile("(\\d+(?:\\.\\d+)+)");
+    private static final Map<BrowserType, String> RESOLVED = new ConcurrentHashMap<>();
+
+    private DriverBinaryResolver() {
+        // utility
+    }
+
+    /**
+     * Returns the driver executable for the browser, resolving it on first use only.
+     * Also publishes the path through the driver's system property for Selenium.
+     *
+     * @param browser the browser type
+     * @return absolute path of the driver executable
+     */
+    public static String resolve(BrowserType browser) {
+        return RESOLVED.computeIfAbsent(browser, key ->
+                ExecutionMetrics.time("driver.binary.resolve", () -> resolveOnce(key)));
+    }
+
+    private static String resolveOnce(BrowserType browser) {
+        WebDriverManager manager = managerFor(browser);
+        String browserVersion = detectBrowserVersion(manager).orElse(null);
+        String cacheKey = cacheKey(browser, browserVersion);
+
+        String cached = browserVersion == null ? null : readCache().getProperty(cacheKey);
+        if (cached != null && Files.isExecutable(Paths.get(cached))) {
+            ExecutionMetrics.increment("driver.binary.cache.hit");
+            return publish(browser, cached);
+        }
+        if (FrameworkConfig.driverOffline()) {
+            throw new IllegalStateException("Offline mode: no cached " + browser + " driver for browser version "
+                    + (browserVersion == null ? "<undetected>" : browserVersion)
+                    + " in " + FrameworkConfig.driverCacheFile()
+                    + ". Run once with driver.offline=false to populate the cache.");
+        }
+
+        ExecutionMetrics.increment("driver.binary.cache.miss");
+        manager.timeout(FrameworkConfig.driverResolveTimeoutSeconds());
+        manager.setup();
+        String path = manager.getDownloadedDriverPath();
+        if (browserVersion != null && path != null) {
+            writeCache(cacheKey, path);
+        }
+        return publish(browser, path);
+    }
+
+    private static WebDriverManager managerFor(BrowserType browser) {
+        return switch (browser) {
+            case EDGE -> WebDriverManager.edgedriver();
+            case CHROME -> WebDriverManager.chromedriver();
+        };
+    }
+
+    private static String publish(BrowserType browser, String path) {
+        String property = switch (browser) {
+            case EDGE -> EdgeDriverService.EDGE_DRIVER_EXE_PROPERTY;
+            case CHROME -> ChromeDriverService.CHROME_DRIVER_EXE_PROPERTY;
+        };
+        System.setProperty(property, path);
+        return path;
+    }
+
+    /**
+     * Asks the locally installed browser for its version. This never touches the network.
+     */
+    private static Optional<String> detectBrowserVersion(WebDriverManager manager) {
+        Optional<Path> browserPath = manager.getBrowserPath();
+        if (browserPath.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            Process process = new ProcessBuilder(browserPath.get().toString(), "--version")
+                    .redirectErrorStream(true)
+                    .start();
+            if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                return Optional.empty();
+            }
+            try (InputStream stream = process.getInputStream()) {
+                Matcher matcher = VERSION.matcher(new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+                return matcher.find() ? Optional.of(matcher.group(1)) : Optional.empty();
+            }
+        } catch (IOException e) {
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+
+    private static String cacheKey(BrowserType browser, String browserVersion) {
+        String os = System.getProperty("os.name").toLowerCase(Locale.ROOT).replace(' ', '_');
+        return browser.name().toLowerCase(Locale.ROOT) + "." + os + "." + browserVersion;
+    }
+
+    private static Properties readCache() {
+        Properties cache = new Properties();
+        Path file = Paths.get(FrameworkConfig.driverCacheFile());
+        if (Files.exists(file)) {
+            try (InputStream stream = Files.newInputStream(file)) {
+                cache.load(stream);
+            } catch (IOException e) {
+                System.err.println("Ignoring unreadable driver cache " + file + ": " + e.getMessage());
+            }
+        }
+        return cache;
+    }
+
+    private static synchronized void writeCache(String key, String path) {
+        Path file = Paths.get(FrameworkConfig.driverCacheFile());
+        Properties cache = readCache();
+        cache.setProperty(key, path);
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            // Write to a temp file and move it so concurrent JVMs never read a partial cache
+            Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), "driver-cache", ".tmp");
+            try (OutputStream stream = Files.newOutputStream(temp)) {
+                cache.store(stream, "Falcon driver binary cache");
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("Failed to write driver cache " + file + ": " + e.getMessage());
+        }
+    }
+}
@@ -1,19 +1,33 @@
 package com.liftofftech.falcon.core.driver;
 
 import com.liftofftech.falcon.core.config.FrameworkConfig;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.liftofftech.falcon.core.grid.GridRouter;
+import com.liftofftech.falcon.core.reporting.BootstrapTimings;
+import com.liftofftech.falcon.core.reporting.ExecutionMetrics;
+import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.chromium.ChromiumOptions;
 import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
 import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.remote.HttpCommandExecutor;
 import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.service.DriverService;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.HashMap;
+import java.nio.file.Path;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 public final class DriverFactory {
 
@@ -22,88 +36,202 @@ public final class DriverFactory {
     }
 
     public static WebDriver createDriver() {
+        if (FrameworkConfig.executionMode() == ExecutionMode.LEASE) {
+            return BrowserLeaseClient.lease();
+        }
         BrowserType browser = FrameworkConfig.browser();
         if (FrameworkConfig.remoteExecution()) {
             return createRemoteDriver(browser);
         }
-        return createLocalDriver(browser);
+        return LaunchAdmissionController.launch(() -> createLocalDriver(browser));
     }
 
-    private static WebDriver createLocalDriver(BrowserType browser) {
-        return switch (browser) {
-            case EDGE -> buildEdgeDriver();
-            case CHROME -> buildChromeDriver();
+    /**
+     * Opens a new driver session against an already running Chromium browser
+     * instead of launching one. Used to host several isolated contexts in one process.
+     * The session is always opened on a shared driver service: attaching starts no browser,
+     * so it needs neither a driver server nor a display of its own.
+     *
+     * @param browser the browser type of the running instance
+     * @param debuggerAddress host:port of the browser's DevTools endpoint
+     * @return a driver attached to the running browser
+     */
+    static WebDriver attachDriver(BrowserType browser, String debuggerAddress) {
+        Capabilities capabilities = switch (browser) {
+            case EDGE -> {
+                EdgeOptions options = new EdgeOptions();
+                options.setExperimentalOption("debuggerAddress", debuggerAddress);
+                BrowserCapabilities.applySessionTimeouts(options);
+                yield options;
+            }
+            case CHROME -> {
+                ChromeOptions options = new ChromeOptions();
+                options.setExperimentalOption("debuggerAddress", debuggerAddress);
+                BrowserCapabilities.applySessionTimeouts(options);
+                if (FrameworkConfig.platform() == PlatformType.MWEB) {
+                    options.setExperimentalOption("mobileEmulation", BrowserCapabilities.mobileEmulation());
+                }
+                yield options;
+            }
         };
+        return openOnSharedService(browser, capabilities);
     }
 
-    private static WebDriver createRemoteDriver(BrowserType browser) {
+    private static WebDriver createLocalDriver(BrowserType browser) {
+        if (FrameworkConfig.browserProfileTemplate()) {
+            return ExecutionMetrics.time("browser.launch", () ->
+                    ExecutionMetrics.time("browser.launch.template.profile", () -> launchFromTemplate(browser)));
+        }
+        return ExecutionMetrics.time("browser.launch", () ->
+                ExecutionMetrics.time("browser.launch.fresh.profile", () ->
+                        startBrowser(browser, BrowserCapabilities.of(browser, FrameworkConfig.platform()))));
+    }
+
+    /**
+     * Starts the browser on a clone of the pre-built profile template. The clone is
+     * deleted when the session is quit through {@link DriverResources}.
+     */
+    private static WebDriver launchFromTemplate(BrowserType browser) {
+        Path profile = BrowserProfileTemplate.cloneFor(browser);
         try {
-            return switch (browser) {
-                case EDGE -> new RemoteWebDriver(new URL(FrameworkConfig.gridUrl()), edgeOptions());
-                case CHROME -> new RemoteWebDriver(new URL(FrameworkConfig.gridUrl()), chromeOptions());
-            };
-        } catch (MalformedURLException e) {
-            throw new IllegalArgumentException("Grid URL is invalid: " + FrameworkConfig.gridUrl(), e);
+            WebDriver driver = startBrowser(browser,
+                    BrowserCapabilities.withUserDataDir(browser, FrameworkConfig.platform(), profile));
+            DriverResources.attach(driver, () -> BrowserProfileTemplate.delete(profile));
+            return driver;
+        } catch (RuntimeException e) {
+            BrowserProfileTemplate.delete(profile);
+            throw e;
         }
     }
 
-    private static WebDriver buildChromeDriver() {
-        WebDriverManager.chromedriver().setup();
-        return new ChromeDriver(chromeOptions());
+    /**
+     * Starts a local browser with the given capabilities, on a shared driver service when
+     * {@code driver.service.shared} is enabled. With pooled virtual displays every browser
+     * gets a driver server of its own, since a server hands its display to every browser it starts.
+     */
+    static WebDriver startBrowser(BrowserType browser, Capabilities capabilities) {
+        WebDriver driver;
+        if (FrameworkConfig.driverServiceShared() && !XvfbDisplayPool.enabled()) {
+            driver = openOnSharedService(browser, capabilities);
+        } else {
+            driver = switch (browser) {
+                case EDGE -> buildEdgeDriver(capabilities);
+                case CHROME -> buildChromeDriver(capabilities);
+            };
+        }
+        ProcessReaper.track();
+        return driver;
     }
 
-    private static WebDriver buildEdgeDriver() {
-        WebDriverManager.edgedriver().setup();
-        return new EdgeDriver(edgeOptions());
+    /**
+     * Opens a session on one of the long-lived driver services. Driver-server startup
+     * (only on first use or after a crash) and browser startup are timed separately.
+     */
+    private static WebDriver openOnSharedService(BrowserType browser, Capabilities capabilities) {
+        DriverService service = DriverServiceRegistry.checkout(browser);
+        try {
+            return ExecutionMetrics.time("browser.session.start", () -> SharedServiceDriver.open(browser, service, capabilities));
+        } finally {
+            DriverServiceRegistry.checkin(service);
+        }
     }
 
-    private static ChromeOptions chromeOptions() {
-        ChromeOptions options = new ChromeOptions();
-        applyCommonOptions(options);
-        if (FrameworkConfig.platform() == PlatformType.MWEB) {
-            Map<String, Object> mobileEmulation = new HashMap<>();
-            
-            // Chrome mobile emulation: Use either deviceName OR deviceMetrics+userAgent, not both
-            // Option 1: Use predefined device name (simpler, uses Chrome's built-in device metrics)
-            String deviceName = FrameworkConfig.mobileDeviceName();
-            if (deviceName != null && !deviceName.isEmpty()) {
-                mobileEmulation.put("deviceName", deviceName);
-            } else {
-                // Option 2: Use custom device metrics and user agent
-            Map<String, Object> deviceMetrics = new HashMap<>();
-            deviceMetrics.put("width", FrameworkConfig.mobileWidth());
-            deviceMetrics.put("height", FrameworkConfig.mobileHeight());
-            deviceMetrics.put("pixelRatio", FrameworkConfig.mobilePixelRatio());
-            mobileEmulation.put("deviceMetrics", deviceMetrics);
-            mobileEmulation.put("userAgent", FrameworkConfig.mobileUserAgent());
+    /**
+     * Opens a remote session on the endpoint chosen by {@link GridRouter}. If the grid refuses
+     * or cannot be reached, the next best endpoint is tried, once per configured grid.
+     */
+    private static WebDriver createRemoteDriver(BrowserType browser) {
+        Capabilities capabilities = BrowserCapabilities.of(browser, FrameworkConfig.platform());
+        int endpoints = FrameworkConfig.gridUrls().size();
+        Set<String> tried = new HashSet<>();
+        RuntimeException lastFailure = null;
+        for (int attempt = 0; attempt < endpoints; attempt++) {
+            String gridUrl = GridRouter.acquire(tried);
+            tried.add(gridUrl);
+            boolean created = false;
+            try {
+                ClientConfig config = ClientConfig.defaultConfig()
+                        .baseUrl(new URL(gridUrl))
+                        .connectionTimeout(FrameworkConfig.remoteHttpConnectTimeout())
+                        .readTimeout(FrameworkConfig.remoteHttpReadTimeout());
+                WebDriver driver = new RemoteWebDriver(
+                        new HttpCommandExecutor(Map.of(), config, PooledHttpClientFactory.INSTANCE), capabilities);
+                created = true;
+                return driver;
+            } catch (MalformedURLException e) {
+                throw new IllegalArgumentException("Grid URL is invalid: " + gridUrl, e);
+            } catch (WebDriverException e) {
+                lastFailure = e;
+                if (attempt + 1 < endpoints) {
+                    System.err.println("Session creation on " + gridUrl + " failed, trying another grid: " + e.getMessage());
+                }
+            } finally {
+                GridRouter.release(gridUrl, created);
             }
+        }
+        throw lastFailure;
+    }
 
-            options.setExperimentalOption("mobileEmulation", mobileEmulation);
+    private static WebDriver buildChromeDriver(Capabilities capabilities) {
+        File executable = new File(DriverBinaryResolver.resolve(BrowserType.CHROME));
+        ChromeOptions options = new ChromeOptions().merge(capabilities);
+        if (!XvfbDisplayPool.enabled()) {
+            return onOwnService(new ChromeDriverService.Builder().usingDriverExecutable(executable).build(),
+                    service -> new ChromeDriver(service, options));
         }
-        return options;
+        return onVirtualDisplay(environment -> onOwnService(new ChromeDriverService.Builder()
+                .usingDriverExecutable(executable).withEnvironment(environment).build(),
+                service -> new ChromeDriver(service, options)));
     }
 
-    private static EdgeOptions edgeOptions() {
-        EdgeOptions options = new EdgeOptions();
-        applyCommonOptions(options);
-        return options;
+    private static WebDriver buildEdgeDriver(Capabilities capabilities) {
+        File executable = new File(DriverBinaryResolver.resolve(BrowserType.EDGE));
+        EdgeOptions options = new EdgeOptions().merge(capabilities);
+        if (!XvfbDisplayPool.enabled()) {
+            return onOwnService(new EdgeDriverService.Builder().usingDriverExecutable(executable).build(),
+                    service -> new EdgeDriver(service, options));
+        }
+        return onVirtualDisplay(environment -> onOwnService(new EdgeDriverService.Builder()
+                .usingDriverExecutable(executable).withEnvironment(environment).build(),
+                service -> new EdgeDriver(service, options)));
     }
 
-    private static void applyCommonOptions(ChromiumOptions<?> options) {
-        options.addArguments("--disable-notifications");
-        options.addArguments("--disable-dev-shm-usage");
-        options.addArguments("--no-sandbox");
-        // Reduce resource usage for parallel execution
-        options.addArguments("--disable-gpu");
-        options.addArguments("--disable-software-rasterizer");
-        options.addArguments("--disable-extensions");
-        // Prevent browser crashes during parallel execution
-        options.addArguments("--disable-background-timer-throttling");
-        options.addArguments("--disable-backgrounding-occluded-windows");
-        options.addArguments("--disable-renderer-backgrounding");
-        if (FrameworkConfig.headless()) {
-            options.addArguments("--headless=new");
+    /**
+     * Starts a driver server for one session and records its startup as the {@code driver.spawn}
+     * bootstrap stage, so session creation is measured alike with and without shared services.
+     * The session stops the server when it quits.
+     */
+    private static <S extends DriverService> WebDriver onOwnService(S service, Function<S, WebDriver> launcher) {
+        long start = System.nanoTime();
+        try {
+            service.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start driver service", e);
+        }
+        long elapsed = System.nanoTime() - start;
+        ExecutionMetrics.recordTime("driver.service.start", elapsed);
+        BootstrapTimings.record("driver.spawn", elapsed);
+        try {
+            return launcher.apply(service);
+        } catch (RuntimeException e) {
+            service.stop();
+            throw e;
         }
     }
-}
 
+    /**
+     * Launches a browser on a display leased from {@link XvfbDisplayPool}; the display is
+     * returned to the pool once the session has been quit.
+     */
+    private static WebDriver onVirtualDisplay(Function<Map<String, String>, WebDriver> launcher) {
+        XvfbDisplayPool.Display display = XvfbDisplayPool.lease();
+        try {
+            WebDriver driver = launcher.apply(display.environment());
+            DriverResources.attach(driver, () -> XvfbDisplayPool.release(display));
+            return driver;
+        } catch (RuntimeException e) {
+            XvfbDisplayPool.release(display);
+            throw e;
+        }
+    }
+}
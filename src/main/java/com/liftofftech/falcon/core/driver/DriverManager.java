@@ -1,15 +1,45 @@
 package com.liftofftech.falcon.core.driver;
 
+import com.liftofftech.falcon.core.config.FrameworkConfig;
 import org.openqa.selenium.WebDriver;
 
 public final class DriverManager {
 
+    // TestNG runs a method's @BeforeMethod, body and @AfterMethod on one worker, so the
+    // binding lives exactly as long as one test invocation, on platform or virtual threads.
     private static final ThreadLocal<WebDriver> DRIVER = new ThreadLocal<>();
 
     private DriverManager() {
         // utility
     }
 
+    /**
+     * Creates or leases a driver for the current thread and binds it.
+     * In context mode a fresh browser context is opened on a shared browser; in lease mode
+     * a warm browser is leased from the host's {@link BrowserLeaseDaemon}; otherwise a warm session is leased from {@link DriverPool} when pooling is enabled,
+     * or a new browser is launched through {@link DriverFactory}. The session is watched
+     * by {@link SessionWatchdog} unless {@code session.watchdog.enabled=false}.
+     *
+     * @return the driver bound to the current thread
+     */
+    public static WebDriver initDriver() {
+        WebDriver driver;
+        if (FrameworkConfig.executionMode() == ExecutionMode.CONTEXT) {
+            driver = BrowserContextManager.openContext();
+        } else if (usePool()) {
+            driver = DriverPool.lease();
+        } else {
+            driver = DriverFactory.createDriver();
+        }
+        if (FrameworkConfig.sessionWatchdogEnabled()) {
+            boolean ownsBrowser = FrameworkConfig.executionMode() == ExecutionMode.PROCESS
+                    && !FrameworkConfig.remoteExecution();
+            driver = SessionWatchdog.watch(driver, ownsBrowser);
+        }
+        setDriver(driver);
+        return driver;
+    }
+
     public static void setDriver(WebDriver driver) {
         DRIVER.set(driver);
     }
@@ -27,11 +57,35 @@ public final class DriverManager {
     }
 
     public static void unload() {
+        unload(false);
+    }
+
+    /**
+     * Releases the current thread's driver. Pooled and leased sessions are reset and returned
+     * to the pool (or the lease daemon) unless {@code discard} is set or the watchdog killed
+     * their browser; other sessions are always quit.
+     *
+     * @param discard true to retire a pooled session instead of reusing it
+     */
+    public static void unload(boolean discard) {
         WebDriver driver = DRIVER.get();
         if (driver != null) {
-            driver.quit();
-            DRIVER.remove();
+            try {
+                driver = SessionWatchdog.unwatch(driver);
+                if (usePool()) {
+                    DriverPool.release(driver, discard || DriverResources.isDead(driver));
+                } else if (FrameworkConfig.executionMode() == ExecutionMode.LEASE) {
+                    BrowserLeaseClient.release(driver, discard || DriverResources.isDead(driver));
+                } else {
+                    DriverResources.quit(driver);
+                }
+            } finally {
+                DRIVER.remove();
+            }
         }
     }
-}
 
+    private static boolean usePool() {
+        return FrameworkConfig.executionMode() == ExecutionMode.PROCESS && FrameworkConfig.driverPoolEnabled();
+    }
+}
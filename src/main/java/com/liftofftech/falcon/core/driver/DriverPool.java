@@ -0,0 +1,271 @@
+package com.liftofftech.falcon.core.driver;
+
+import com.liftofftech.falcon.core.config.FrameworkConfig;
+import com.liftofftech.falcon.core.reporting.ExecutionMetrics;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pool of warm browser sessions shared by the worker threads of a run.
+ * Sessions are leased by {@link DriverManager}, reset when they are returned and
+ * retired after {@code driver.pool.max.uses} leases or when the test using them failed.
+ * A worker prefers the session it returned last so its browser stays hot in cache.
+ * Sessions are keyed by the browser profile they were launched with (browser, platform,
+ * headless), so a run whose configuration asks for another profile never gets a session of
+ * the old one; when the pool is full, idle sessions of other profiles make room.
+ */
+public final class DriverPool {
+
+    private static final ReentrantLock LOCK = new ReentrantLock(true);
+    private static final Condition AVAILABLE = LOCK.newCondition();
+    private static final Deque<PooledSession> IDLE = new ArrayDeque<>();
+    private static final Map<WebDriver, PooledSession> LEASED = new IdentityHashMap<>();
+    private static final ThreadLocal<PooledSession> LAST_RETURNED = new ThreadLocal<>();
+
+    private static int liveSessions;
+
+    static {
+        ExecutionMetrics.gauge("driver.pool.reuse.ratio", DriverPool::reuseRatio);
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverPool::shutdown, "driver-pool-shutdown"));
+    }
+
+    private DriverPool() {
+        // utility
+    }
+
+    /**
+     * Leases a session for the current thread, launching a new browser when the pool
+     * has spare capacity and no idle session is available.
+     *
+     * @return a reset, ready-to-use driver
+     */
+    public static WebDriver lease() {
+        long start = System.nanoTime();
+        String profile = profile();
+        PooledSession session = null;
+        PooledSession evicted = null;
+        LOCK.lock();
+        try {
+            while (session == null) {
+                session = takeIdle(profile);
+                if (session == null && liveSessions < FrameworkConfig.driverPoolSize()) {
+                    liveSessions++;
+                    break;
+                }
+                if (session == null && !IDLE.isEmpty()) {
+                    // Only sessions of other profiles are idle; replace the coldest one
+                    evicted = IDLE.pollLast();
+                    liveSessions++;
+                    break;
+                }
+                if (session == null) {
+                    AVAILABLE.awaitUninterruptibly();
+                }
+            }
+        } finally {
+            LOCK.unlock();
+        }
+        if (evicted != null) {
+            ExecutionMetrics.increment("driver.pool.profile.evicted");
+            retire(evicted);
+        }
+
+        boolean reused = session != null;
+        if (!reused) {
+            session = launch();
+        }
+        session.uses++;
+
+        LOCK.lock();
+        try {
+            LEASED.put(session.driver, session);
+        } finally {
+            LOCK.unlock();
+        }
+        ExecutionMetrics.recordTime("driver.pool.lease.wait", System.nanoTime() - start);
+        ExecutionMetrics.increment("driver.pool.lease.total");
+        if (reused) {
+            ExecutionMetrics.increment("driver.pool.lease.reused");
+        }
+        return session.driver;
+    }
+
+    /**
+     * Returns a leased session to the pool. The session is reset unless it is being retired.
+     *
+     * @param driver the leased driver
+     * @param retire true to quit the browser instead of keeping it (e.g. the test failed)
+     */
+    public static void release(WebDriver driver, boolean retire) {
+        PooledSession session;
+        LOCK.lock();
+        try {
+            session = LEASED.remove(driver);
+        } finally {
+            LOCK.unlock();
+        }
+        if (session == null) {
+            DriverResources.quit(driver);
+            return;
+        }
+
+        boolean keep = !retire && session.uses < FrameworkConfig.driverPoolMaxUses();
+        if (keep) {
+            try {
+                SessionReset.reset(driver, FrameworkConfig.driverPoolResetStrategy());
+            } catch (RuntimeException e) {
+                System.err.println("Driver pool reset failed, retiring session: " + e.getMessage());
+                ExecutionMetrics.increment("driver.pool.reset.failed");
+                keep = false;
+            }
+        }
+
+        if (keep) {
+            LOCK.lock();
+            try {
+                IDLE.addFirst(session);
+                LAST_RETURNED.set(session);
+                AVAILABLE.signal();
+            } finally {
+                LOCK.unlock();
+            }
+        } else {
+            retire(session);
+        }
+    }
+
+    /**
+     * Launches sessions in the background until the pool holds {@code count} browsers,
+     * so the first tests of a run find warm sessions waiting.
+     */
+    public static void prewarm(int count) {
+        int target = Math.min(count, FrameworkConfig.driverPoolSize());
+        for (int i = 0; i < target; i++) {
+            LOCK.lock();
+            try {
+                if (liveSessions >= target) {
+                    return;
+                }
+                liveSessions++;
+            } finally {
+                LOCK.unlock();
+            }
+            Thread warmer = new Thread(() -> {
+                try {
+                    PooledSession session = launch();
+                    LOCK.lock();
+                    try {
+                        IDLE.addLast(session);
+                        AVAILABLE.signal();
+                    } finally {
+                        LOCK.unlock();
+                    }
+                } catch (RuntimeException e) {
+                    System.err.println("Driver pool prewarm failed: " + e.getMessage());
+                }
+            }, "driver-pool-prewarm-" + i);
+            warmer.setDaemon(true);
+            warmer.start();
+        }
+    }
+
+    /**
+     * Quits every idle session. Leased sessions are quit when they are released.
+     */
+    public static void shutdown() {
+        List<PooledSession> idle;
+        LOCK.lock();
+        try {
+            idle = new ArrayList<>(IDLE);
+            IDLE.clear();
+        } finally {
+            LOCK.unlock();
+        }
+        idle.forEach(DriverPool::retire);
+    }
+
+    /**
+     * Returns the browser profile new sessions are launched with under the current configuration.
+     */
+    static String profile() {
+        return FrameworkConfig.browser().name().toLowerCase(Locale.ROOT) + "/"
+                + FrameworkConfig.platform().name().toLowerCase(Locale.ROOT)
+                + "/" + (FrameworkConfig.headless() ? "headless" : "headed");
+    }
+
+    private static PooledSession takeIdle(String profile) {
+        PooledSession preferred = LAST_RETURNED.get();
+        if (preferred != null && preferred.profile.equals(profile) && IDLE.remove(preferred)) {
+            return preferred;
+        }
+        for (PooledSession session : IDLE) {
+            if (session.profile.equals(profile)) {
+                IDLE.remove(session);
+                return session;
+            }
+        }
+        return null;
+    }
+
+    private static PooledSession launch() {
+        try {
+            String profile = profile();
+            return new PooledSession(DriverFactory.createDriver(), profile);
+        } catch (RuntimeException e) {
+            LOCK.lock();
+            try {
+                liveSessions--;
+                AVAILABLE.signal();
+            } finally {
+                LOCK.unlock();
+            }
+            throw e;
+        }
+    }
+
+    private static void retire(PooledSession session) {
+        ExecutionMetrics.increment("driver.pool.retired");
+        try {
+            DriverResources.quit(session.driver);
+        } catch (RuntimeException e) {
+            System.err.println("Driver pool quit warning: " + e.getMessage());
+        } finally {
+            LOCK.lock();
+            try {
+                liveSessions--;
+                if (LAST_RETURNED.get() == session) {
+                    LAST_RETURNED.remove();
+                }
+                AVAILABLE.signal();
+            } finally {
+                LOCK.unlock();
+            }
+        }
+    }
+
+    private static double reuseRatio() {
+        long total = ExecutionMetrics.count("driver.pool.lease.total");
+        return total == 0 ? 0.0 : (double) ExecutionMetrics.count("driver.pool.lease.reused") / total;
+    }
+
+    private static final class PooledSession {
+
+        private final WebDriver driver;
+        private final String profile;
+        private int uses;
+
+        private PooledSession(WebDriver driver, String profile) {
+            this.driver = driver;
+            this.profile = profile;
+        }
+    }
+}
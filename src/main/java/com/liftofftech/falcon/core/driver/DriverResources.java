@@ -0,0 +1,80 @@
+package com.liftofftech.falcon.core.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tracks host-side resources that belong to a browser session (e.g. its cloned
+ * profile directory) and releases them once the session has been quit.
+ * Every code path that ends a session goes through {@link #quit(WebDriver)}.
+ * Sessions whose browser was killed are marked dead so ending them skips the
+ * {@code quit()} round trip that could only fail.
+ */
+final class DriverResources {
+
+    private static final Map<WebDriver, List<Runnable>> CLEANUPS = Collections.synchronizedMap(new IdentityHashMap<>());
+    private static final Set<WebDriver> DEAD = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    private DriverResources() {
+        // utility
+    }
+
+    /**
+     * Returns the session behind any decorators (e.g. the watchdog's), which is the key
+     * resources are registered under.
+     */
+    static WebDriver unwrap(WebDriver driver) {
+        WebDriver current = driver;
+        while (current instanceof WrapsDriver) {
+            current = ((WrapsDriver) current).getWrappedDriver();
+        }
+        return current;
+    }
+
+    /**
+     * Registers a cleanup action that runs after the driver has been quit.
+     */
+    static void attach(WebDriver driver, Runnable cleanup) {
+        CLEANUPS.computeIfAbsent(driver, key -> new ArrayList<>()).add(cleanup);
+    }
+
+    /**
+     * Marks a session whose browser is gone; it will be released without calling {@code quit()}.
+     */
+    static void markDead(WebDriver driver) {
+        DEAD.add(driver);
+    }
+
+    static boolean isDead(WebDriver driver) {
+        return DEAD.contains(driver);
+    }
+
+    /**
+     * Quits the driver, then runs its cleanup actions even if quitting failed.
+     */
+    static void quit(WebDriver driver) {
+        try {
+            if (!DEAD.remove(driver)) {
+                driver.quit();
+            }
+        } finally {
+            List<Runnable> cleanups = CLEANUPS.remove(driver);
+            if (cleanups != null) {
+                for (Runnable cleanup : cleanups) {
+                    try {
+                        cleanup.run();
+                    } catch (RuntimeException e) {
+                        System.err.println("Driver resource cleanup warning: " + e.getMessage());
+                    }
+                }
+            }
+        }
+    }
+}
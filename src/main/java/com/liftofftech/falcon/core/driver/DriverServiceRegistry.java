@@ -0,0 +1,208 @@
+package com.liftofftech.falcon.core.driver;
+
+import com.liftofftech.falcon.core.config.FrameworkConfig;
+import com.liftofftech.falcon.core.reporting.BootstrapTimings;
+import com.liftofftech.falcon.core.reporting.ExecutionMetrics;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps a small set of long-lived chromedriver/msedgedriver servers shared by every thread,
+ * so new sessions skip spawning a driver process and binding a port. A service is checked
+ * out for the duration of one launch and returned right after, so short-lived threads
+ * (pool prewarming, profile-template builds) reuse the same servers as the workers. A
+ * server can open several sessions at once; when {@code driver.service.max} servers are
+ * running and none is idle, launches share the one with the fewest launches in flight.
+ * Each service is health-checked before it is handed out and restarted if it crashed. Not
+ * used to launch browsers with {@link XvfbDisplayPool}, whose displays are leased per browser
+ * session; sessions attached to an already running browser always use it.
+ */
+public final class DriverServiceRegistry {
+
+    private static final Duration HEALTH_CHECK_TIMEOUT = Duration.ofSeconds(2);
+    private static final HttpClient HEALTH_CLIENT = HttpClient.newBuilder()
+            .connectTimeout(HEALTH_CHECK_TIMEOUT)
+            .build();
+
+    private static final Object LOCK = new Object();
+    private static final Map<BrowserType, Deque<DriverService>> IDLE = new EnumMap<>(BrowserType.class);
+    private static final Map<BrowserType, Integer> STARTED = new EnumMap<>(BrowserType.class);
+    /** Launches in flight per running service; a service is idle once its count drops to zero. */
+    private static final Map<DriverService, Integer> LAUNCHES = new LinkedHashMap<>();
+    private static final Map<DriverService, BrowserType> BROWSERS = new HashMap<>();
+
+    static {
+        for (BrowserType browser : BrowserType.values()) {
+            IDLE.put(browser, new ArrayDeque<>());
+            STARTED.put(browser, 0);
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverServiceRegistry::shutdown, "driver-service-shutdown"));
+    }
+
+    private DriverServiceRegistry() {
+        // utility
+    }
+
+    /**
+     * Checks out a running driver service for one launch, starting or restarting one when
+     * needed. Give it back with {@link #checkin} once the session has been created.
+     *
+     * @param browser the browser type
+     * @return a healthy, running driver service
+     */
+    public static DriverService checkout(BrowserType browser) {
+        DriverService service;
+        boolean shared = false;
+        synchronized (LOCK) {
+            service = IDLE.get(browser).pollFirst();
+            if (service == null && STARTED.get(browser) >= FrameworkConfig.driverServiceMax()) {
+                service = leastBusy(browser);
+                shared = service != null;
+            }
+            if (service == null) {
+                STARTED.merge(browser, 1, Integer::sum);
+            } else {
+                LAUNCHES.merge(service, 1, Integer::sum);
+            }
+        }
+
+        if (service != null && (shared || isHealthy(service))) {
+            // Reusing a running server costs no spawn; recorded so every launch has the stage
+            BootstrapTimings.record("driver.spawn", 0);
+            return service;
+        }
+        if (service != null) {
+            System.err.println("Driver service at " + service.getUrl() + " is unhealthy, restarting it.");
+            ExecutionMetrics.increment("driver.service.restart");
+            stop(service);
+            synchronized (LOCK) {
+                STARTED.merge(browser, 1, Integer::sum);
+            }
+        }
+        try {
+            service = start(browser);
+        } catch (RuntimeException e) {
+            synchronized (LOCK) {
+                STARTED.merge(browser, -1, Integer::sum);
+            }
+            throw e;
+        }
+        synchronized (LOCK) {
+            LAUNCHES.merge(service, 1, Integer::sum);
+            BROWSERS.put(service, browser);
+        }
+        return service;
+    }
+
+    /**
+     * Returns a service after a launch; it stays running for the next one.
+     */
+    public static void checkin(DriverService service) {
+        synchronized (LOCK) {
+            Integer launches = LAUNCHES.computeIfPresent(service, (key, count) -> count - 1);
+            if (launches != null && launches == 0) {
+                IDLE.get(BROWSERS.get(service)).addFirst(service);
+            }
+        }
+    }
+
+    /**
+     * Stops every driver service started by this registry.
+     */
+    public static void shutdown() {
+        List<DriverService> services;
+        synchronized (LOCK) {
+            services = new ArrayList<>(LAUNCHES.keySet());
+        }
+        services.forEach(DriverServiceRegistry::stop);
+    }
+
+    private static DriverService leastBusy(BrowserType browser) {
+        DriverService least = null;
+        int fewest = Integer.MAX_VALUE;
+        for (Map.Entry<DriverService, Integer> entry : LAUNCHES.entrySet()) {
+            if (BROWSERS.get(entry.getKey()) == browser && entry.getValue() < fewest) {
+                least = entry.getKey();
+                fewest = entry.getValue();
+            }
+        }
+        return least;
+    }
+
+    private static DriverService start(BrowserType browser) {
+        File executable = new File(DriverBinaryResolver.resolve(browser));
+        DriverService service = switch (browser) {
+            case EDGE -> new EdgeDriverService.Builder()
+                    .usingDriverExecutable(executable)
+                    .usingAnyFreePort()
+                    .build();
+            case CHROME -> new ChromeDriverService.Builder()
+                    .usingDriverExecutable(executable)
+                    .usingAnyFreePort()
+                    .build();
+        };
+        long start = System.nanoTime();
+        try {
+            service.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start " + browser + " driver service", e);
+        }
+        long elapsed = System.nanoTime() - start;
+        ExecutionMetrics.recordTime("driver.service.start", elapsed);
+        BootstrapTimings.record("driver.spawn", elapsed);
+        ProcessReaper.track();
+        return service;
+    }
+
+    private static void stop(DriverService service) {
+        synchronized (LOCK) {
+            IDLE.values().forEach(idle -> idle.remove(service));
+            LAUNCHES.remove(service);
+            BrowserType browser = BROWSERS.remove(service);
+            if (browser != null) {
+                STARTED.merge(browser, -1, Integer::sum);
+            }
+        }
+        try {
+            service.stop();
+        } catch (RuntimeException e) {
+            System.err.println("Driver service stop warning: " + e.getMessage());
+        }
+    }
+
+    private static boolean isHealthy(DriverService service) {
+        if (!service.isRunning()) {
+            return false;
+        }
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(service.getUrl() + "/status"))
+                    .timeout(HEALTH_CHECK_TIMEOUT)
+                    .GET()
+                    .build();
+            return HEALTH_CLIENT.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
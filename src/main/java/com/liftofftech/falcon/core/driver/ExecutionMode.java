@@ -0,0 +1,22 @@
+package com.liftofftech.falcon.core.driver;
+
+import java.util.Locale;
+
+/**
+ * How browser sessions are provided to tests.
+ */
+public enum ExecutionMode {
+    /** One browser process per session (default). */
+    PROCESS,
+    /** Isolated DevTools browser contexts hosted by a shared browser process. */
+    CONTEXT,
+    /** Warm browsers leased from the host's {@link BrowserLeaseDaemon}. */
+    LEASE;
+
+    public static ExecutionMode from(String value) {
+        if (value == null) {
+            return PROCESS;
+        }
+        return ExecutionMode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,169 @@
+package com.liftofftech.falcon.core.driver;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.liftofftech.falcon.core.config.FrameworkConfig;
+import com.liftofftech.falcon.core.reporting.ExecutionMetrics;
+import com.liftofftech.falcon.core.utils.JsonUtils;
+import org.openqa.selenium.By;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Optional fast path for read-only page queries: evaluates them over a DevTools WebSocket
+ * kept open per session and attached to the session's page, instead of one or more WebDriver
+ * HTTP round trips through the driver (and the grid). Local sessions connect to the browser's
+ * debugger address, remote ones to the grid's {@code se:cdp} endpoint.
+ * <p>
+ * Every method returns empty when the fast path cannot answer (disabled, no DevTools endpoint,
+ * element not found or not visible, timeout); callers then use WebDriver, which keeps its
+ * waiting and error semantics. Only the window that was current on the first fast read is
+ * queried, so sessions that switch windows should leave {@code fast.reads} off.
+ */
+public final class FastReads {
+
+    private static final String VISIBLE = "const visible = e => { if (!e || !e.isConnected) return false; "
+            + "const s = getComputedStyle(e); if (s.visibility === 'hidden' || s.display === 'none' "
+            + "|| Number(s.opacity) === 0) return false; const r = e.getBoundingClientRect(); "
+            + "return r.width > 0 && r.height > 0; };";
+
+    private static final Map<WebDriver, Optional<DevToolsChannel>> CHANNELS = new ConcurrentHashMap<>();
+
+    private FastReads() {
+        // utility
+    }
+
+    /**
+     * Returns the text of the first matching element, if it is visible.
+     */
+    public static Optional<String> text(WebDriver driver, By locator) {
+        return JsLocator.first(locator).flatMap(element -> evaluate(driver, "(() => { " + VISIBLE
+                + " const e = " + element + "; return visible(e) ? { value: e.innerText.trim() } : null; })()"))
+                .map(JsonNode::asText);
+    }
+
+    /**
+     * Returns an attribute of the first matching element, if it is visible, with WebDriver's
+     * {@code getAttribute} rules: the property when it is a plain value, else the attribute.
+     * Empty when the element has neither, leaving the null answer to WebDriver.
+     */
+    public static Optional<String> attribute(WebDriver driver, By locator, String name) {
+        return JsLocator.first(locator).flatMap(element -> evaluate(driver, "(() => { " + VISIBLE
+                + " const e = " + element + "; if (!visible(e)) return null; const n = " + quote(name) + ";"
+                + " const p = e[n]; if (typeof p === 'boolean') return { value: p ? 'true' : null };"
+                + " if (p !== undefined && p !== null && typeof p !== 'object' && typeof p !== 'function')"
+                + " return { value: String(p) }; return { value: e.getAttribute(n) }; })()"))
+                .filter(value -> !value.isNull())
+                .map(JsonNode::asText);
+    }
+
+    /**
+     * Returns true if the first matching element is visible; empty when it is not (or absent).
+     */
+    public static Optional<Boolean> displayed(WebDriver driver, By locator) {
+        return JsLocator.first(locator).flatMap(element -> evaluate(driver, "(() => { " + VISIBLE
+                + " return visible(" + element + ") ? { value: true } : null; })()"))
+                .map(JsonNode::asBoolean);
+    }
+
+    /**
+     * Returns the number of elements matching the locator.
+     */
+    public static Optional<Integer> count(WebDriver driver, By locator) {
+        return JsLocator.all(locator).flatMap(elements -> evaluate(driver, "({ value: " + elements + ".length })"))
+                .map(JsonNode::asInt);
+    }
+
+    /**
+     * Evaluates a numeric page expression, e.g. a scroll offset.
+     */
+    public static Optional<Long> number(WebDriver driver, String expression) {
+        return evaluate(driver, "({ value: Math.round(" + expression + ") })").map(JsonNode::asLong);
+    }
+
+    /**
+     * Evaluates a numeric expression over the first matching element, bound as {@code e}.
+     * Empty when no element matches.
+     */
+    public static Optional<Long> elementNumber(WebDriver driver, By locator, String expression) {
+        return JsLocator.first(locator).flatMap(element -> evaluate(driver, "(() => { const e = " + element
+                + "; return e ? { value: Math.round(" + expression + ") } : null; })()"))
+                .map(JsonNode::asLong);
+    }
+
+    /**
+     * Runs an expression that yields {@code {value: ...}} or null, and returns the value.
+     */
+    static Optional<JsonNode> evaluate(WebDriver driver, String expression) {
+        if (!FrameworkConfig.fastReadsEnabled()) {
+            return Optional.empty();
+        }
+        WebDriver session = DriverResources.unwrap(driver);
+        Optional<DevToolsChannel> channel = CHANNELS.computeIfAbsent(session, FastReads::connect);
+        if (channel.isEmpty() || !channel.get().isOpen()) {
+            ExecutionMetrics.increment("fast.reads.fallback");
+            return Optional.empty();
+        }
+        long start = System.nanoTime();
+        try {
+            JsonNode result = channel.get().call("Runtime.evaluate",
+                    Map.of("expression", expression, "returnByValue", true), FrameworkConfig.fastReadsTimeout());
+            ExecutionMetrics.recordTime("fast.reads.cdp", System.nanoTime() - start);
+            JsonNode value = result.path("result").path("value");
+            if (result.has("exceptionDetails") || !value.isObject()) {
+                ExecutionMetrics.increment("fast.reads.fallback");
+                return Optional.empty();
+            }
+            return Optional.of(value.path("value"));
+        } catch (ExecutionException | TimeoutException e) {
+            ExecutionMetrics.increment("fast.reads.fallback");
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<DevToolsChannel> connect(WebDriver session) {
+        Duration timeout = FrameworkConfig.fastReadsTimeout();
+        try {
+            String endpoint = null;
+            if (session instanceof HasCapabilities) {
+                Object cdp = ((HasCapabilities) session).getCapabilities().getCapability("se:cdp");
+                if (cdp != null) {
+                    endpoint = cdp.toString();
+                }
+            }
+            String debuggerAddress = BrowserProcess.debuggerAddress(session);
+            if (endpoint == null && debuggerAddress != null) {
+                endpoint = DevToolsChannel.browserWebSocketUrl(debuggerAddress, timeout);
+            }
+            if (endpoint == null) {
+                return Optional.empty();
+            }
+            DevToolsChannel channel = DevToolsChannel.open(endpoint, session.getWindowHandle(), timeout);
+            DriverResources.attach(session, () -> {
+                Optional<DevToolsChannel> open = CHANNELS.remove(session);
+                if (open != null) {
+                    open.ifPresent(DevToolsChannel::close);
+                }
+            });
+            return Optional.of(channel);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Fast reads unavailable for this session, using WebDriver: " + e.getMessage());
+            DriverResources.attach(session, () -> CHANNELS.remove(session));
+            return Optional.empty();
+        }
+    }
+
+    private static String quote(String value) {
+        return JsonUtils.toJson(value);
+    }
+}
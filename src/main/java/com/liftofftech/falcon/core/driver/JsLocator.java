@@ -0,0 +1,61 @@
+package com.liftofftech.falcon.core.driver;
+
+import com.liftofftech.falcon.core.utils.JsonUtils;
+import org.openqa.selenium.By;
+
+import java.util.Optional;
+
+/**
+ * Translates a {@link By} locator into a JavaScript expression that finds the same elements
+ * in the page, for code that queries the DOM without a WebDriver round trip.
+ * Covers CSS selectors and XPath, which is what {@code By.id}, {@code By.name},
+ * {@code By.className} and {@code By.tagName} are sent as over the wire.
+ */
+public final class JsLocator {
+
+    private JsLocator() {
+        // utility
+    }
+
+    /**
+     * Returns an expression evaluating to an array of every matching element in document order.
+     *
+     * @param locator the locator
+     * @return the expression, or empty for locators that have no DOM equivalent (e.g. link text)
+     */
+    public static Optional<String> all(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            return Optional.empty();
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) XPathToCss.effective(locator)).getRemoteParameters();
+        String value = JsonUtils.toJson(String.valueOf(parameters.value()));
+        return switch (parameters.using()) {
+            case "css selector" -> Optional.of("Array.from(document.querySelectorAll(" + value + "))");
+            case "xpath" -> Optional.of("(() => { const r = document.evaluate(" + value + ", document, null, "
+                    + "XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null); const a = []; "
+                    + "for (let i = 0; i < r.snapshotLength; i++) { a.push(r.snapshotItem(i)); } return a; })()");
+            default -> Optional.empty();
+        };
+    }
+
+    /**
+     * Returns an expression evaluating to the first matching element, or null. Stops at the
+     * first match instead of collecting all of them.
+     *
+     * @param locator the locator
+     * @return the expression, or empty for locators that have no DOM equivalent
+     */
+    public static Optional<String> first(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            return Optional.empty();
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) XPathToCss.effective(locator)).getRemoteParameters();
+        String value = JsonUtils.toJson(String.valueOf(parameters.value()));
+        return switch (parameters.using()) {
+            case "css selector" -> Optional.of("document.querySelector(" + value + ")");
+            case "xpath" -> Optional.of("document.evaluate(" + value + ", document, null, "
+                    + "XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue");
+            default -> Optional.empty();
+        };
+    }
+}
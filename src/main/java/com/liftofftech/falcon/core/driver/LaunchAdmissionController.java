@@ -0,0 +1,119 @@
+package com.liftofftech.falcon.core.driver;
+
+import com.liftofftech.falcon.core.config.FrameworkConfig;
+import com.liftofftech.falcon.core.reporting.ExecutionMetrics;
+import com.liftofftech.falcon.core.utils.SystemResources;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Admits browser launches one batch at a time. A fair semaphore caps concurrent launches
+ * at {@code browser.launch.max.concurrent}; an admitted launch additionally waits while the
+ * host is short on memory or overloaded, then is retried with jittered exponential backoff
+ * if it fails.
+ */
+public final class LaunchAdmissionController {
+
+    private static final long BACKPRESSURE_POLL_MILLIS = 250;
+
+    private static final Semaphore PERMITS = new Semaphore(FrameworkConfig.launchMaxConcurrent(), true);
+    private static final AtomicInteger QUEUE_DEPTH = new AtomicInteger();
+    private static final AtomicInteger MAX_QUEUE_DEPTH = new AtomicInteger();
+
+    static {
+        ExecutionMetrics.gauge("browser.launch.queue.depth", QUEUE_DEPTH::get);
+        ExecutionMetrics.gauge("browser.launch.queue.depth.max", MAX_QUEUE_DEPTH::get);
+    }
+
+    private LaunchAdmissionController() {
+        // utility
+    }
+
+    /**
+     * Runs the launcher once admitted, retrying failed launches.
+     *
+     * @param launcher creates the browser session
+     * @return the launched session
+     */
+    public static <T> T launch(Supplier<T> launcher) {
+        long queuedAt = System.nanoTime();
+        MAX_QUEUE_DEPTH.accumulateAndGet(QUEUE_DEPTH.incrementAndGet(), Math::max);
+        try {
+            PERMITS.acquire();
+        } catch (InterruptedException e) {
+            QUEUE_DEPTH.decrementAndGet();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to launch a browser", e);
+        }
+        try {
+            awaitCapacity();
+            QUEUE_DEPTH.decrementAndGet();
+            ExecutionMetrics.recordTime("browser.launch.admission.wait", System.nanoTime() - queuedAt);
+            return launchWithRetry(launcher);
+        } finally {
+            PERMITS.release();
+        }
+    }
+
+    private static <T> T launchWithRetry(Supplier<T> launcher) {
+        int retries = FrameworkConfig.launchRetries();
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return launcher.get();
+            } catch (RuntimeException e) {
+                if (attempt >= retries) {
+                    ExecutionMetrics.increment("browser.launch.failed");
+                    throw e;
+                }
+                ExecutionMetrics.increment("browser.launch.retry");
+                long backoff = FrameworkConfig.launchBackoffMillis() << attempt;
+                long jittered = (long) (backoff * ThreadLocalRandom.current().nextDouble(0.5, 1.5));
+                System.err.println("Browser launch failed (attempt " + (attempt + 1) + "), retrying in "
+                        + jittered + " ms: " + e.getMessage());
+                sleep(jittered);
+            }
+        }
+    }
+
+    /**
+     * Holds the launch while free memory or load average are past their limits,
+     * up to {@code browser.launch.backpressure.timeout} seconds.
+     */
+    private static void awaitCapacity() {
+        long deadline = System.nanoTime() + FrameworkConfig.launchBackpressureTimeout().toNanos();
+        boolean throttled = false;
+        while (isOverloaded()) {
+            if (System.nanoTime() >= deadline) {
+                System.err.println("Browser launch backpressure timed out; launching anyway (free memory "
+                        + SystemResources.availableMemoryMb() + " MB, load " + SystemResources.loadAverage() + ").");
+                break;
+            }
+            throttled = true;
+            sleep(BACKPRESSURE_POLL_MILLIS);
+        }
+        if (throttled) {
+            ExecutionMetrics.increment("browser.launch.backpressure");
+        }
+    }
+
+    private static boolean isOverloaded() {
+        long freeMemory = SystemResources.availableMemoryMb();
+        if (freeMemory >= 0 && freeMemory < FrameworkConfig.launchMinFreeMemoryMb()) {
+            return true;
+        }
+        double load = SystemResources.loadAverage();
+        return load >= 0 && load > FrameworkConfig.launchMaxLoadPerCore() * SystemResources.cpuCount();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to launch a browser", e);
+        }
+    }
+}
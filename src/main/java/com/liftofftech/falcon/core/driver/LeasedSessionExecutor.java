@@ -0,0 +1,65 @@
+package com.liftofftech.falcon.core.driver;
+
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.SessionId;
+import org.openqa.selenium.remote.codec.w3c.W3CHttpCommandCodec;
+import org.openqa.selenium.remote.codec.w3c.W3CHttpResponseCodec;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.HttpClient;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Map;
+
+/**
+ * Command executor for a session that already exists on a driver server, such as a browser
+ * leased from {@link BrowserLeaseDaemon}. {@code newSession} answers with the existing session
+ * instead of creating one, and {@code quit} hands the browser back (through {@code onQuit})
+ * instead of ending the session; every other command goes to the driver server as usual.
+ */
+final class LeasedSessionExecutor implements CommandExecutor {
+
+    private final W3CHttpCommandCodec commandCodec = new W3CHttpCommandCodec();
+    private final W3CHttpResponseCodec responseCodec = new W3CHttpResponseCodec();
+    private final HttpClient client;
+    private final SessionId sessionId;
+    private final Map<String, Object> capabilities;
+    private final Runnable onQuit;
+
+    LeasedSessionExecutor(URL serverUrl, SessionId sessionId, Map<String, Object> capabilities, Runnable onQuit) {
+        this.client = PooledHttpClientFactory.INSTANCE.createClient(ClientConfig.defaultConfig().baseUrl(serverUrl));
+        this.sessionId = sessionId;
+        this.capabilities = capabilities;
+        this.onQuit = onQuit;
+    }
+
+    @Override
+    public Response execute(Command command) throws IOException {
+        if (DriverCommand.NEW_SESSION.equals(command.getName())) {
+            return success(capabilities);
+        }
+        if (DriverCommand.QUIT.equals(command.getName())) {
+            try {
+                onQuit.run();
+            } finally {
+                client.close();
+            }
+            return success(null);
+        }
+        Response response = responseCodec.decode(client.execute(commandCodec.encode(command)));
+        if (response.getSessionId() == null) {
+            response.setSessionId(sessionId.toString());
+        }
+        return response;
+    }
+
+    private Response success(Object value) {
+        Response response = new Response(sessionId);
+        response.setState("success");
+        response.setValue(value);
+        return response;
+    }
+}
@@ -0,0 +1,181 @@
+package com.liftofftech.falcon.core.driver;
+
+import com.liftofftech.falcon.core.config.FrameworkConfig;
+import com.liftofftech.falcon.core.reporting.ExecutionMetrics;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.openqa.selenium.remote.http.WebSocket;
+import org.openqa.selenium.remote.http.jdk.JdkHttpClient;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Creates the HTTP clients remote sessions use to talk to the grid. All of them send through
+ * one JDK client, so every session in the JVM shares a single pool of kept-alive connections
+ * instead of opening its own. Responses are requested gzip-compressed (a grid or proxy that
+ * supports it shrinks screenshots and page sources considerably), and each command's wire
+ * time is recorded as a {@code remote.command.<method>.<command>} timer.
+ * WebSocket traffic (CDP and BiDi over the grid) still goes through Selenium's default client.
+ */
+final class PooledHttpClientFactory implements HttpClient.Factory {
+
+    static final PooledHttpClientFactory INSTANCE = new PooledHttpClientFactory();
+
+    /** Headers the JDK client sets itself and refuses to take from callers. */
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+    private final java.net.http.HttpClient shared = java.net.http.HttpClient.newBuilder()
+            .version(java.net.http.HttpClient.Version.HTTP_1_1)
+            .connectTimeout(FrameworkConfig.remoteHttpConnectTimeout())
+            .followRedirects(java.net.http.HttpClient.Redirect.NORMAL)
+            .build();
+
+    private PooledHttpClientFactory() {
+        // shared instance
+    }
+
+    @Override
+    public HttpClient createClient(ClientConfig config) {
+        return new PooledHttpClient(config);
+    }
+
+    /**
+     * Returns the metric suffix of a WebDriver command path, e.g. {@code post.element.click}
+     * for {@code POST /session/<id>/element/<id>/click}. Session and element ids are dropped.
+     */
+    static String commandName(String method, String path) {
+        StringJoiner name = new StringJoiner(".");
+        name.add(method.toLowerCase(Locale.ROOT));
+        String[] segments = path.replaceAll("\\?.*$", "").split("/");
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (segment.equals("session") && i + 1 < segments.length) {
+                i++;
+                continue;
+            }
+            if (segment.matches("[a-z][a-z_-]*")) {
+                name.add(segment);
+            }
+        }
+        return name.toString();
+    }
+
+    private final class PooledHttpClient implements HttpClient {
+
+        private final ClientConfig config;
+        private final HttpHandler handler;
+        private HttpClient sockets;
+
+        private PooledHttpClient(ClientConfig config) {
+            this.config = config;
+            this.handler = config.filter().andFinally(this::send);
+        }
+
+        @Override
+        public HttpResponse execute(HttpRequest request) {
+            return handler.execute(request);
+        }
+
+        @Override
+        public synchronized WebSocket openSocket(HttpRequest request, WebSocket.Listener listener) {
+            if (sockets == null) {
+                sockets = new JdkHttpClient.Factory().createClient(config);
+            }
+            return sockets.openSocket(request, listener);
+        }
+
+        @Override
+        public synchronized void close() {
+            // The shared JDK client stays open for the other sessions
+            if (sockets != null) {
+                sockets.close();
+                sockets = null;
+            }
+        }
+
+        private HttpResponse send(HttpRequest request) {
+            java.net.http.HttpRequest.Builder builder = java.net.http.HttpRequest.newBuilder(uri(request))
+                    .timeout(config.readTimeout())
+                    .header("Accept-Encoding", "gzip");
+            request.forEachHeader((name, value) -> {
+                if (!RESTRICTED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                    builder.header(name, value);
+                }
+            });
+            byte[] body = Contents.bytes(request.getContent());
+            builder.method(request.getMethod().name(),
+                    body.length == 0 ? BodyPublishers.noBody() : BodyPublishers.ofByteArray(body));
+
+            long start = System.nanoTime();
+            java.net.http.HttpResponse<byte[]> response;
+            try {
+                response = shared.send(builder.build(), BodyHandlers.ofByteArray());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Grid request failed: " + request.getMethod() + " " + request.getUri(), e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the grid", e);
+            }
+            ExecutionMetrics.recordTime("remote.command." + commandName(request.getMethod().name(), request.getUri()),
+                    System.nanoTime() - start);
+            ExecutionMetrics.add("remote.http.response.bytes", response.body().length);
+
+            HttpResponse result = new HttpResponse().setStatus(response.statusCode());
+            response.headers().map().forEach((name, values) -> {
+                if (!name.equalsIgnoreCase("content-encoding") && !name.equalsIgnoreCase("content-length")) {
+                    values.forEach(value -> result.addHeader(name, value));
+                }
+            });
+            result.setContent(Contents.bytes(decode(response)));
+            return result;
+        }
+
+        private URI uri(HttpRequest request) {
+            String path = request.getUri();
+            StringBuilder uri = new StringBuilder(path.startsWith("http")
+                    ? path
+                    : config.baseUri().toString().replaceAll("/+$", "") + path);
+            String separator = path.contains("?") ? "&" : "?";
+            for (String name : request.getQueryParameterNames()) {
+                for (String value : request.getQueryParameters(name)) {
+                    uri.append(separator)
+                            .append(URLEncoder.encode(name, StandardCharsets.UTF_8)).append('=')
+                            .append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+                    separator = "&";
+                }
+            }
+            return URI.create(uri.toString());
+        }
+
+        private byte[] decode(java.net.http.HttpResponse<byte[]> response) {
+            List<String> encodings = response.headers().allValues("Content-Encoding");
+            if (!encodings.contains("gzip")) {
+                return response.body();
+            }
+            try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+                byte[] decoded = in.readAllBytes();
+                ExecutionMetrics.add("remote.http.compression.saved.bytes", decoded.length - response.body().length);
+                return decoded;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Corrupt gzip response from the grid", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.liftofftech.falcon.core.driver;
+
+import com.liftofftech.falcon.core.config.FrameworkConfig;
+import com.liftofftech.falcon.core.reporting.ExecutionMetrics;
+import com.liftofftech.falcon.core.utils.SystemResources;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Records every driver and browser process this JVM starts in a run-scoped file under
+ * {@code process.registry.dir}, and kills what is left of them: this run's processes when
+ * the run finishes (or the JVM exits), and processes of earlier runs whose JVM died
+ * without cleaning up (crashes, killed CI jobs) when a new run starts.
+ * Each entry keeps the process start time, so a recycled PID is never killed by mistake.
+ */
+public final class ProcessReaper {
+
+    private static final Duration GRACE_PERIOD = Duration.ofSeconds(5);
+    private static final ProcessHandle SELF = ProcessHandle.current();
+    private static final Set<Long> TRACKED = new HashSet<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(ProcessReaper::reapCurrentRun, "process-reaper"));
+    }
+
+    private ProcessReaper() {
+        // utility
+    }
+
+    /**
+     * Records the JVM's current descendant processes (driver servers, browsers and their helpers).
+     * Called after each local launch.
+     */
+    public static void track() {
+        if (!FrameworkConfig.processReaperEnabled()) {
+            return;
+        }
+        List<String> lines = new ArrayList<>();
+        synchronized (TRACKED) {
+            SELF.descendants().forEach(process -> {
+                Optional<Instant> started = process.info().startInstant();
+                if (started.isPresent() && TRACKED.add(process.pid())) {
+                    lines.add(process.pid() + " " + started.get().toEpochMilli() + " "
+                            + process.info().command().map(command -> Paths.get(command).getFileName().toString()).orElse("?"));
+                }
+            });
+            if (lines.isEmpty()) {
+                return;
+            }
+            try {
+                Path file = runFile(SELF);
+                Files.createDirectories(file.getParent());
+                Files.write(file, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                System.err.println("Process registry write failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Kills the leftovers of earlier runs whose JVM is gone and deletes their registry files.
+     */
+    public static void sweepStaleRuns() {
+        if (!FrameworkConfig.processReaperEnabled()) {
+            return;
+        }
+        Path directory = Paths.get(FrameworkConfig.processRegistryDir());
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        List<Path> staleFiles = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(ProcessReaper::isStaleRunFile).forEach(staleFiles::add);
+        } catch (IOException e) {
+            System.err.println("Process registry sweep failed: " + e.getMessage());
+            return;
+        }
+        for (Path file : staleFiles) {
+            reap(file, "earlier run " + file.getFileName(), Duration.ZERO);
+        }
+    }
+
+    /**
+     * Kills this run's recorded processes that are still alive after a short grace period,
+     * e.g. after a failed {@code quit()}. Safe to call more than once.
+     */
+    public static void reapCurrentRun() {
+        if (!FrameworkConfig.processReaperEnabled()) {
+            return;
+        }
+        synchronized (TRACKED) {
+            Path file = runFile(SELF);
+            if (Files.exists(file)) {
+                reap(file, "this run", GRACE_PERIOD);
+            }
+            TRACKED.clear();
+        }
+    }
+
+    private static void reap(Path file, String owner, Duration gracePeriod) {
+        Map<ProcessHandle, String> alive = new LinkedHashMap<>();
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                String[] parts = line.trim().split("\\s+");
+                if (parts.length < 2) {
+                    continue;
+                }
+                long pid = Long.parseLong(parts[0]);
+                long startedAt = Long.parseLong(parts[1]);
+                ProcessHandle.of(pid)
+                        .filter(ProcessHandle::isAlive)
+                        .filter(process -> process.info().startInstant().map(Instant::toEpochMilli).orElse(-1L) == startedAt)
+                        .ifPresent(process -> alive.put(process, parts.length > 2 ? parts[2] : "?"));
+            }
+        } catch (IOException | NumberFormatException e) {
+            System.err.println("Unreadable process registry " + file + ": " + e.getMessage());
+        }
+
+        long deadline = System.nanoTime() + gracePeriod.toNanos();
+        alive.keySet().removeIf(process -> !process.isAlive());
+        while (!alive.isEmpty() && System.nanoTime() < deadline) {
+            sleep(200);
+            alive.keySet().removeIf(process -> !process.isAlive());
+        }
+
+        long killed = 0;
+        long rssKb = 0;
+        long cpuMillis = 0;
+        for (ProcessHandle process : alive.keySet()) {
+            List<ProcessHandle> tree = new ArrayList<>();
+            tree.add(process);
+            process.descendants().forEach(tree::add);
+            for (ProcessHandle member : tree) {
+                if (!member.isAlive()) {
+                    continue;
+                }
+                long rss = SystemResources.residentMemoryKb(member.pid());
+                long cpu = member.info().totalCpuDuration().map(Duration::toMillis).orElse(0L);
+                if (member.destroyForcibly()) {
+                    killed++;
+                    rssKb += Math.max(0, rss);
+                    cpuMillis += cpu;
+                }
+            }
+        }
+        if (killed > 0) {
+            ExecutionMetrics.add("process.reaper.killed", killed);
+            ExecutionMetrics.add("process.reaper.reclaimed.rss.mb", rssKb / 1024);
+            ExecutionMetrics.add("process.reaper.reclaimed.cpu.ms", cpuMillis);
+            System.out.println("Process reaper: killed " + killed + " leftover processes from " + owner
+                    + ", reclaimed " + (rssKb / 1024) + " MB RSS (they had used " + cpuMillis + " ms CPU)");
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            System.err.println("Failed to delete process registry " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * A run file is stale when its owning JVM no longer exists, or its PID now belongs to
+     * a different process (the file name carries the owner's start time).
+     */
+    private static boolean isStaleRunFile(Path file) {
+        String[] parts = file.getFileName().toString().replace(".pids", "").split("-");
+        if (!file.toString().endsWith(".pids") || parts.length != 2) {
+            return false;
+        }
+        try {
+            long pid = Long.parseLong(parts[0]);
+            long startedAt = Long.parseLong(parts[1]);
+            return ProcessHandle.of(pid)
+                    .map(owner -> owner.info().startInstant().map(Instant::toEpochMilli).orElse(-1L) != startedAt)
+                    .orElse(true);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static Path runFile(ProcessHandle owner) {
+        long startedAt = owner.info().startInstant().map(Instant::toEpochMilli).orElse(0L);
+        return Paths.get(FrameworkConfig.processRegistryDir(), owner.pid() + "-" + startedAt + ".pids");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.liftofftech.falcon.core.driver;
+
+import com.liftofftech.falcon.core.config.FrameworkConfig;
+import com.liftofftech.falcon.core.reporting.ExecutionMetrics;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.io.Zip;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.URL;
+import java.net.UnknownHostException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Turns a local file into a path the browser can read when sessions run on a grid.
+ * Files are identified by content hash and file name, since the upload carries the name
+ * and the node-side path ends in it. Each distinct file is sent to a session once
+ * and later uploads in that session reuse the node-side path; the zipped, encoded
+ * payload is kept in a size-bounded LRU cache ({@code upload.cache.max.mb}) so other sessions
+ * do not zip and encode it again. Grids on this machine read the local file directly.
+ * Hits, misses and bytes not re-sent are reported as {@code upload.cache.*}.
+ */
+public final class RemoteUploads {
+
+    private static final Map<String, Map<String, String>> SESSION_PATHS = new ConcurrentHashMap<>();
+    private static final Map<String, String> HASHES = new ConcurrentHashMap<>();
+    private static final Map<String, String> PAYLOADS = new LinkedHashMap<>(16, 0.75f, true);
+    private static long payloadBytes;
+
+    static {
+        ExecutionMetrics.gauge("upload.cache.hit.rate", () -> {
+            long hits = ExecutionMetrics.count("upload.cache.hit");
+            long total = hits + ExecutionMetrics.count("upload.cache.miss");
+            return total == 0 ? 0.0 : (double) hits / total;
+        });
+    }
+
+    private RemoteUploads() {
+        // utility
+    }
+
+    /**
+     * Returns the path to type into a file input for the given local file.
+     *
+     * @param driver   the session that will receive the file
+     * @param filePath absolute path of the local file
+     * @return the local path for local sessions, otherwise the file's path on the grid node
+     */
+    public static String pathFor(WebDriver driver, String filePath) {
+        RemoteWebDriver remote = remoteSession(driver);
+        if (remote == null || !FrameworkConfig.uploadCacheEnabled() || isLoopback(remote)) {
+            return filePath;
+        }
+        Path file = Paths.get(filePath).toAbsolutePath();
+        String key = hash(file) + "/" + file.getFileName();
+        String sessionId = remote.getSessionId().toString();
+        Map<String, String> uploaded = SESSION_PATHS.computeIfAbsent(sessionId, id -> {
+            DriverResources.attach(remote, () -> SESSION_PATHS.remove(id));
+            return new ConcurrentHashMap<>();
+        });
+
+        String nodePath = uploaded.get(key);
+        if (nodePath != null) {
+            ExecutionMetrics.increment("upload.cache.hit");
+            ExecutionMetrics.add("upload.cache.bytes.saved", size(file));
+            return nodePath;
+        }
+        ExecutionMetrics.increment("upload.cache.miss");
+        nodePath = upload(remote, payload(file, key));
+        uploaded.put(key, nodePath);
+        return nodePath;
+    }
+
+    private static String upload(RemoteWebDriver remote, String payload) {
+        try {
+            Response response = remote.getCommandExecutor()
+                    .execute(new Command(remote.getSessionId(), DriverCommand.UPLOAD_FILE, Map.of("file", payload)));
+            if (response.getValue() instanceof String) {
+                return (String) response.getValue();
+            }
+            throw new WebDriverException("Grid rejected file upload: " + response.getValue());
+        } catch (IOException e) {
+            throw new UncheckedIOException("File upload to the grid failed", e);
+        }
+    }
+
+    /**
+     * Returns the zipped, base64-encoded file, from the cache when another session already sent it.
+     */
+    private static String payload(Path file, String key) {
+        synchronized (PAYLOADS) {
+            String cached = PAYLOADS.get(key);
+            if (cached != null) {
+                ExecutionMetrics.increment("upload.cache.payload.reused");
+                return cached;
+            }
+        }
+        String payload;
+        try {
+            payload = Zip.zip(file.toFile());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to package " + file + " for upload", e);
+        }
+        long limit = FrameworkConfig.uploadCacheMaxMb() * 1024 * 1024;
+        synchronized (PAYLOADS) {
+            if (payload.length() <= limit && PAYLOADS.put(key, payload) == null) {
+                payloadBytes += payload.length();
+                Iterator<Map.Entry<String, String>> eldest = PAYLOADS.entrySet().iterator();
+                while (payloadBytes > limit && eldest.hasNext()) {
+                    payloadBytes -= eldest.next().getValue().length();
+                    eldest.remove();
+                    ExecutionMetrics.increment("upload.cache.evicted");
+                }
+            }
+        }
+        return payload;
+    }
+
+    /**
+     * Hashes the file content; the result is remembered per path, size and modification time.
+     */
+    private static String hash(Path file) {
+        try {
+            String key = file + "|" + Files.size(file) + "|" + Files.getLastModifiedTime(file).toMillis();
+            return HASHES.computeIfAbsent(key, k -> {
+                try {
+                    return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(file)));
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to read " + file, e);
+                } catch (NoSuchAlgorithmException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Upload file not readable: " + file, e);
+        }
+    }
+
+    private static long size(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static RemoteWebDriver remoteSession(WebDriver driver) {
+        WebDriver current = DriverResources.unwrap(driver);
+        if (current instanceof RemoteWebDriver
+                && ((RemoteWebDriver) current).getCommandExecutor() instanceof HttpCommandExecutor
+                && FrameworkConfig.remoteExecution()) {
+            return (RemoteWebDriver) current;
+        }
+        return null;
+    }
+
+    /**
+     * A grid on this machine shares its file system with the tests, so nothing needs sending.
+     */
+    private static boolean isLoopback(RemoteWebDriver remote) {
+        URL address = ((HttpCommandExecutor) remote.getCommandExecutor()).getAddressOfRemoteServer();
+        try {
+            return InetAddress.getByName(address.getHost()).isLoopbackAddress();
+        } catch (UnknownHostException e) {
+            return false;
+        }
+    }
+}
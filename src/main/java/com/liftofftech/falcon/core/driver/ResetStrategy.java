@@ -0,0 +1,22 @@
+package com.liftofftech.falcon.core.driver;
+
+import java.util.Locale;
+
+/**
+ * How much browser state is cleared when a pooled session is returned.
+ */
+public enum ResetStrategy {
+    /** Leave the session untouched. */
+    NONE,
+    /** Delete cookies of every domain and navigate to a blank page. */
+    COOKIES,
+    /** Also clear storage, IndexedDB and permissions of every visited origin. */
+    FULL;
+
+    public static ResetStrategy from(String value) {
+        if (value == null) {
+            return FULL;
+        }
+        return ResetStrategy.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,143 @@
+package com.liftofftech.falcon.core.driver;
+
+import com.liftofftech.falcon.core.config.FrameworkConfig;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Returns a live browser session to a clean state so it can be reused by another test.
+ * Cookies are cleared for every domain, not only the current page's, and the session's
+ * timeouts and window size are put back in case the test changed them.
+ */
+final class SessionReset {
+
+    private static final String BLANK_PAGE = "about:blank";
+
+    private static final String CLEAR_WEB_STORAGE_SCRIPT =
+            "var done = arguments[arguments.length - 1];" +
+            "try { window.localStorage.clear(); } catch (e) {}" +
+            "try { window.sessionStorage.clear(); } catch (e) {}" +
+            "if (!window.indexedDB || !window.indexedDB.databases) { done(true); return; }" +
+            "window.indexedDB.databases().then(function (dbs) {" +
+            "  dbs.forEach(function (db) { window.indexedDB.deleteDatabase(db.name); });" +
+            "  done(true);" +
+            "}).catch(function () { done(false); });";
+
+    private SessionReset() {
+        // utility
+    }
+
+    /**
+     * Resets the session according to the strategy.
+     *
+     * @throws RuntimeException if the browser cannot be reset; the caller should retire the session
+     */
+    static void reset(WebDriver driver, ResetStrategy strategy) {
+        if (strategy == ResetStrategy.NONE) {
+            return;
+        }
+        WebDriver session = DriverResources.unwrap(driver);
+        HasCdp cdp = session instanceof HasCdp ? (HasCdp) session : null;
+        Set<String> origins = new LinkedHashSet<>();
+        closeExtraWindows(driver, origins);
+        if (strategy == ResetStrategy.FULL) {
+            clearOriginData(driver, cdp, origins);
+        }
+        if (cdp != null) {
+            // deleteAllCookies() only reaches the current page's domain
+            cdp.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+        } else {
+            driver.manage().deleteAllCookies();
+        }
+        driver.get(BLANK_PAGE);
+        restoreSessionSettings(driver);
+    }
+
+    private static void closeExtraWindows(WebDriver driver, Set<String> origins) {
+        List<String> handles = new ArrayList<>(driver.getWindowHandles());
+        if (handles.size() <= 1) {
+            return;
+        }
+        String keep = handles.get(0);
+        for (String handle : handles.subList(1, handles.size())) {
+            driver.switchTo().window(handle);
+            addOrigin(origins, driver.getCurrentUrl());
+            driver.close();
+        }
+        driver.switchTo().window(keep);
+    }
+
+    /**
+     * Clears storage, IndexedDB and permissions for every origin the session has visited:
+     * the open windows, the current tab's history and the domains that set cookies. Without
+     * CDP only the current origin can be reached.
+     */
+    @SuppressWarnings("unchecked")
+    private static void clearOriginData(WebDriver driver, HasCdp cdp, Set<String> origins) {
+        String current = originOf(driver.getCurrentUrl());
+        if (current != null) {
+            ((JavascriptExecutor) driver).executeAsyncScript(CLEAR_WEB_STORAGE_SCRIPT);
+        }
+        if (cdp == null) {
+            return;
+        }
+        addOrigin(origins, driver.getCurrentUrl());
+        Map<String, Object> history = cdp.executeCdpCommand("Page.getNavigationHistory", Map.of());
+        for (Map<String, Object> entry : (List<Map<String, Object>>) history.getOrDefault("entries", List.of())) {
+            addOrigin(origins, (String) entry.get("url"));
+        }
+        Map<String, Object> cookies = cdp.executeCdpCommand("Network.getAllCookies", Map.of());
+        for (Map<String, Object> cookie : (List<Map<String, Object>>) cookies.getOrDefault("cookies", List.of())) {
+            String domain = String.valueOf(cookie.get("domain"));
+            String host = domain.startsWith(".") ? domain.substring(1) : domain;
+            // The cookie does not record which scheme set it
+            origins.add("https://" + host);
+            origins.add("http://" + host);
+        }
+
+        cdp.executeCdpCommand("Browser.resetPermissions", Map.of());
+        for (String origin : origins) {
+            cdp.executeCdpCommand("Storage.clearDataForOrigin",
+                    Map.of("origin", origin, "storageTypes", "all"));
+        }
+    }
+
+    /**
+     * Puts back the timeouts and window size the session was created with.
+     */
+    private static void restoreSessionSettings(WebDriver driver) {
+        WebDriver.Timeouts timeouts = driver.manage().timeouts();
+        timeouts.implicitlyWait(FrameworkConfig.implicitWait());
+        timeouts.pageLoadTimeout(FrameworkConfig.pageLoadTimeout());
+        timeouts.scriptTimeout(FrameworkConfig.scriptTimeout());
+        if (FrameworkConfig.platform() == PlatformType.DWEB) {
+            String[] size = FrameworkConfig.browserWindowSize().split(",");
+            driver.manage().window().setSize(
+                    new Dimension(Integer.parseInt(size[0].trim()), Integer.parseInt(size[1].trim())));
+        }
+    }
+
+    private static void addOrigin(Set<String> origins, String url) {
+        String origin = originOf(url);
+        if (origin != null) {
+            origins.add(origin);
+        }
+    }
+
+    private static String originOf(String url) {
+        if (url == null || !url.startsWith("http")) {
+            return null;
+        }
+        URI uri = URI.create(url);
+        return uri.getScheme() + "://" + uri.getAuthority();
+    }
+}
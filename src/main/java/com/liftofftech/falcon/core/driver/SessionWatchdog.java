@@ -0,0 +1,268 @@
+package com.liftofftech.falcon.core.driver;
+
+import com.liftofftech.falcon.core.config.FrameworkConfig;
+import com.liftofftech.falcon.core.reporting.ExecutionMetrics;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Watches every session handed out by {@link DriverManager} for hung commands and dead browsers.
+ * Command latency is tracked through an {@link EventFiringDecorator}; browser liveness through
+ * heartbeats against the DevTools HTTP endpoint. When a command runs past
+ * {@code session.watchdog.command.budget} or heartbeats keep failing, the watchdog writes a
+ * thread dump and the browser's target list, then aborts the session: a browser owned by the
+ * session is killed (its blocked command fails at once and the session is retired without
+ * {@code quit()}), a context session has its page closed. The next test gets a fresh session.
+ */
+final class SessionWatchdog {
+
+    private static final Duration HTTP_TIMEOUT = Duration.ofSeconds(2);
+    private static final HttpClient DEVTOOLS_CLIENT = HttpClient.newBuilder()
+            .connectTimeout(HTTP_TIMEOUT)
+            .build();
+    private static final Map<WebDriver, Watch> WATCHED = Collections.synchronizedMap(new IdentityHashMap<>());
+    private static final ScheduledExecutorService MONITOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "session-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        MONITOR.scheduleWithFixedDelay(SessionWatchdog::checkAll, 1, 1, TimeUnit.SECONDS);
+    }
+
+    private SessionWatchdog() {
+        // utility
+    }
+
+    /**
+     * Starts watching a session for the calling worker thread.
+     *
+     * @param driver       the session to watch
+     * @param ownsBrowser  true if the browser process belongs to this session alone and may be killed
+     * @return the driver to hand to tests; pass it to {@link #unwatch(WebDriver)} when done
+     */
+    static WebDriver watch(WebDriver driver, boolean ownsBrowser) {
+        String targetId = null;
+        String debuggerAddress = BrowserProcess.debuggerAddress(driver);
+        if (!ownsBrowser && debuggerAddress != null) {
+            targetId = driver.getWindowHandle();
+        }
+        Watch watch = new Watch(driver, Thread.currentThread(), debuggerAddress,
+                ownsBrowser ? BrowserProcess.userDataDir(driver) : null, targetId);
+        WebDriver decorated = new EventFiringDecorator<>(watch).decorate(driver);
+        WATCHED.put(decorated, watch);
+        return decorated;
+    }
+
+    /**
+     * Stops watching and returns the underlying session.
+     *
+     * @param decorated the driver returned by {@link #watch(WebDriver, boolean)}
+     * @return the original driver, or the argument if it was not watched
+     */
+    static WebDriver unwatch(WebDriver decorated) {
+        Watch watch = WATCHED.remove(decorated);
+        return watch == null ? decorated : watch.driver;
+    }
+
+    private static void checkAll() {
+        List<Watch> watches;
+        synchronized (WATCHED) {
+            watches = new ArrayList<>(WATCHED.values());
+        }
+        long budgetNanos = FrameworkConfig.sessionWatchdogCommandBudget().toNanos();
+        long heartbeatNanos = FrameworkConfig.sessionWatchdogHeartbeatInterval().toNanos();
+        long now = System.nanoTime();
+        for (Watch watch : watches) {
+            if (watch.tripped) {
+                continue;
+            }
+            long startedAt = watch.callStartedAt;
+            if (startedAt != 0 && now - startedAt > budgetNanos) {
+                ExecutionMetrics.increment("session.watchdog.hung");
+                trip(watch, "command '" + watch.currentCall + "' exceeded the "
+                        + FrameworkConfig.sessionWatchdogCommandBudget().toSeconds() + "s budget");
+            } else if (watch.debuggerAddress != null && now - watch.lastHeartbeat >= heartbeatNanos) {
+                watch.lastHeartbeat = now;
+                heartbeat(watch);
+            }
+        }
+    }
+
+    private static void heartbeat(Watch watch) {
+        devtools(watch.debuggerAddress, "/json/version").sendAsync().whenComplete((response, error) -> {
+            if (error == null && response.statusCode() == 200) {
+                watch.missedHeartbeats.set(0);
+            } else if (watch.missedHeartbeats.incrementAndGet() >= FrameworkConfig.sessionWatchdogHeartbeatFailures()
+                    && !watch.tripped) {
+                ExecutionMetrics.increment("session.watchdog.dead");
+                MONITOR.execute(() -> trip(watch, watch.missedHeartbeats.get() + " DevTools heartbeats missed"));
+            }
+        });
+    }
+
+    private static synchronized void trip(Watch watch, String reason) {
+        if (watch.tripped) {
+            return;
+        }
+        watch.tripped = true;
+        System.err.println("Session watchdog: " + reason + " on " + watch.worker.getName() + ", aborting session.");
+        writeDump(watch, reason);
+
+        if (watch.userDataDir != null) {
+            DriverResources.markDead(watch.driver);
+            int killed = BrowserProcess.kill(watch.userDataDir);
+            ExecutionMetrics.add("session.watchdog.killed.processes", killed);
+        } else if (watch.targetId != null) {
+            // Shared context host: close only this session's page so other contexts keep running
+            devtools(watch.debuggerAddress, "/json/close/" + watch.targetId).send();
+        } else {
+            // Remote sessions (and browsers that do not report their profile) cannot be reached from here
+            System.err.println("Session watchdog: session cannot be aborted from this host; "
+                    + "it stays blocked until the driver or grid times it out.");
+        }
+    }
+
+    private static void writeDump(Watch watch, String reason) {
+        StringBuilder dump = new StringBuilder()
+                .append("Reason: ").append(reason).append('\n')
+                .append("Time: ").append(Instant.now()).append('\n')
+                .append("Worker: ").append(watch.worker.getName()).append('\n');
+        for (StackTraceElement frame : watch.worker.getStackTrace()) {
+            dump.append("\tat ").append(frame).append('\n');
+        }
+        if (watch.debuggerAddress != null) {
+            dump.append("\nBrowser targets (").append(watch.debuggerAddress).append("):\n")
+                    .append(devtools(watch.debuggerAddress, "/json/list").send()).append('\n');
+        }
+        dump.append("\nAll threads:\n");
+        for (ThreadInfo thread : ManagementFactory.getThreadMXBean().dumpAllThreads(false, false)) {
+            dump.append(thread);
+        }
+
+        Path file = Paths.get(FrameworkConfig.sessionWatchdogDumpDir(),
+                "hung-" + watch.worker.getName().replaceAll("[^A-Za-z0-9._-]", "_") + "-" + System.currentTimeMillis() + ".txt");
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.writeString(file, dump);
+            System.err.println("Session watchdog: diagnostics written to " + file);
+        } catch (IOException e) {
+            System.err.println("Session watchdog: failed to write diagnostics: " + e.getMessage());
+        }
+    }
+
+    private static DevToolsRequest devtools(String debuggerAddress, String path) {
+        return new DevToolsRequest(HttpRequest.newBuilder(URI.create("http://" + debuggerAddress + path))
+                .timeout(HTTP_TIMEOUT)
+                .GET()
+                .build());
+    }
+
+    private static final class DevToolsRequest {
+
+        private final HttpRequest request;
+
+        private DevToolsRequest(HttpRequest request) {
+            this.request = request;
+        }
+
+        private CompletableFuture<HttpResponse<Void>> sendAsync() {
+            return DEVTOOLS_CLIENT.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+        }
+
+        /**
+         * Sends the request synchronously.
+         *
+         * @return response body, or a short error description
+         */
+        private String send() {
+            try {
+                return DEVTOOLS_CLIENT.send(request, HttpResponse.BodyHandlers.ofString()).body();
+            } catch (IOException e) {
+                return "<unavailable: " + e.getMessage() + ">";
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return "<interrupted>";
+            }
+        }
+    }
+
+    /**
+     * Per-session state, updated by the decorator on the worker thread and read by the monitor.
+     */
+    private static final class Watch implements WebDriverListener {
+
+        private final WebDriver driver;
+        private final Thread worker;
+        private final String debuggerAddress;
+        private final String userDataDir;
+        private final String targetId;
+        private final AtomicInteger depth = new AtomicInteger();
+        private final AtomicInteger missedHeartbeats = new AtomicInteger();
+        private volatile long callStartedAt;
+        private volatile String currentCall;
+        private volatile long lastHeartbeat = System.nanoTime();
+        private volatile boolean tripped;
+
+        private Watch(WebDriver driver, Thread worker, String debuggerAddress, String userDataDir, String targetId) {
+            this.driver = driver;
+            this.worker = worker;
+            this.debuggerAddress = debuggerAddress;
+            this.userDataDir = userDataDir;
+            this.targetId = targetId;
+        }
+
+        @Override
+        public void beforeAnyCall(Object target, Method method, Object[] args) {
+            // Nested calls (e.g. an element call made while a wait is running) share the outer start time
+            if (depth.getAndIncrement() == 0) {
+                currentCall = method.getName();
+                callStartedAt = System.nanoTime();
+            }
+        }
+
+        @Override
+        public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+            finishCall();
+        }
+
+        @Override
+        public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+            finishCall();
+        }
+
+        private void finishCall() {
+            if (depth.decrementAndGet() <= 0) {
+                depth.set(0);
+                callStartedAt = 0;
+            }
+        }
+    }
+}
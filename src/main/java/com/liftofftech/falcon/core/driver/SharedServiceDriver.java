@@ -0,0 +1,60 @@
+package com.liftofftech.falcon.core.driver;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.remote.CommandInfo;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Chromium session opened against a long-lived driver service. Unlike {@code ChromeDriver},
+ * quitting this driver only ends the session; the driver server keeps running for the next one.
+ * CDP and casting commands stay available just as on the stock drivers.
+ */
+final class SharedServiceDriver extends ChromiumDriver {
+
+    private SharedServiceDriver(BrowserType browser, DriverService service, Capabilities capabilities) {
+        super(new HttpCommandExecutor(extraCommands(browser), service.getUrl()), capabilities, capabilityKey(browser));
+        switch (browser) {
+            case EDGE -> {
+                casting = new org.openqa.selenium.edge.AddHasCasting().getImplementation(getCapabilities(), getExecuteMethod());
+                cdp = new org.openqa.selenium.edge.AddHasCdp().getImplementation(getCapabilities(), getExecuteMethod());
+            }
+            case CHROME -> {
+                casting = new org.openqa.selenium.chrome.AddHasCasting().getImplementation(getCapabilities(), getExecuteMethod());
+                cdp = new org.openqa.selenium.chrome.AddHasCdp().getImplementation(getCapabilities(), getExecuteMethod());
+            }
+        }
+    }
+
+    static SharedServiceDriver open(BrowserType browser, DriverService service, Capabilities capabilities) {
+        return new SharedServiceDriver(browser, service, capabilities);
+    }
+
+    private static Map<String, CommandInfo> extraCommands(BrowserType browser) {
+        Map<String, CommandInfo> commands = new HashMap<>();
+        switch (browser) {
+            case EDGE -> {
+                commands.putAll(new org.openqa.selenium.edge.AddHasCasting().getAdditionalCommands());
+                commands.putAll(new org.openqa.selenium.edge.AddHasCdp().getAdditionalCommands());
+            }
+            case CHROME -> {
+                commands.putAll(new org.openqa.selenium.chrome.AddHasCasting().getAdditionalCommands());
+                commands.putAll(new org.openqa.selenium.chrome.AddHasCdp().getAdditionalCommands());
+            }
+        }
+        return commands;
+    }
+
+    private static String capabilityKey(BrowserType browser) {
+        return switch (browser) {
+            case EDGE -> EdgeOptions.CAPABILITY;
+            case CHROME -> ChromeOptions.CAPABILITY;
+        };
+    }
+}
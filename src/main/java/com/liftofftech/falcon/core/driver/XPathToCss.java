@@ -0,0 +1,289 @@
+package com.liftofftech.falcon.core.driver;
+
+import com.liftofftech.falcon.core.config.FrameworkConfig;
+import org.openqa.selenium.By;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Translates XPath locators into equivalent CSS selectors, which browsers match natively and
+ * much faster than they evaluate XPath. Only shapes with an exact CSS counterpart are
+ * translated; anything else (text and {@code normalize-space()} tests, {@code or}, nested
+ * paths, document-order indexes like {@code (//a)[3]}, axes) yields empty.
+ * <p>
+ * Supported: {@code //} and {@code /} between steps, HTML tag names, {@code *} and
+ * {@code *[name()='svg']}, and predicates built from {@code @a}, {@code @a='v'},
+ * {@code contains(@a,'v')}, {@code starts-with(@a,'v')} joined by {@code and}, plus an
+ * integer position ({@code nth-of-type} / {@code nth-child}) when it comes before any
+ * attribute predicate. For example
+ * {@code //div[@role='listbox']//div[@role='option']} becomes
+ * {@code div[role="listbox"] div[role="option"]}.
+ * <p>
+ * In HTML documents an unprefixed XPath name test only matches HTML elements, while a CSS
+ * type selector matches any namespace, so {@code //svg} or {@code //path} (never true for
+ * inline SVG) would gain matches as CSS. Such names are refused; only standard HTML element
+ * names and custom elements (names with a hyphen) are translated. The few names SVG shares
+ * with HTML ({@code a}, {@code script}, {@code style}, {@code title}) get {@code :not(svg *)}.
+ * <p>
+ * With {@code locator.compile.css=true}, {@link #effective} hands out the compiled form so
+ * page objects keep their XPath and run as CSS. The {@code LocatorProfiler} checks on the
+ * live page that both forms match the same elements.
+ */
+public final class XPathToCss {
+
+    private static final Pattern IDENT = Pattern.compile("[A-Za-z_][A-Za-z0-9_-]*");
+    private static final Map<String, Optional<String>> COMPILED = new ConcurrentHashMap<>();
+    private static final Set<String> HTML_ELEMENTS = Set.of(
+            "a", "abbr", "address", "area", "article", "aside", "audio", "b", "base", "bdi", "bdo",
+            "blockquote", "body", "br", "button", "canvas", "caption", "cite", "code", "col", "colgroup",
+            "data", "datalist", "dd", "del", "details", "dfn", "dialog", "div", "dl", "dt", "em", "embed",
+            "fieldset", "figcaption", "figure", "footer", "form", "h1", "h2", "h3", "h4", "h5", "h6",
+            "head", "header", "hgroup", "hr", "html", "i", "iframe", "img", "input", "ins", "kbd", "label",
+            "legend", "li", "link", "main", "map", "mark", "menu", "meta", "meter", "nav", "noscript",
+            "object", "ol", "optgroup", "option", "output", "p", "picture", "pre", "progress", "q", "rp",
+            "rt", "ruby", "s", "samp", "script", "search", "section", "select", "slot", "small", "source",
+            "span", "strong", "style", "sub", "summary", "sup", "table", "tbody", "td", "template",
+            "textarea", "tfoot", "th", "thead", "time", "title", "tr", "track", "u", "ul", "var", "video",
+            "wbr");
+    private static final Set<String> SHARED_WITH_SVG = Set.of("a", "script", "style", "title");
+
+    private XPathToCss() {
+        // utility
+    }
+
+    /**
+     * Returns the locator to use: the compiled CSS form of an XPath locator when
+     * {@code locator.compile.css} is on and a translation exists, otherwise the locator itself.
+     */
+    public static By effective(By locator) {
+        if (!FrameworkConfig.locatorCompileCss() || !(locator instanceof By.ByXPath)) {
+            return locator;
+        }
+        String xpath = String.valueOf(((By.Remotable) locator).getRemoteParameters().value());
+        return COMPILED.computeIfAbsent(xpath, XPathToCss::compile).<By>map(By::cssSelector).orElse(locator);
+    }
+
+    /**
+     * Translates an XPath expression into an equivalent CSS selector.
+     *
+     * @param xpath the XPath expression
+     * @return the CSS selector, or empty when the expression has no exact CSS equivalent
+     */
+    public static Optional<String> compile(String xpath) {
+        try {
+            return Optional.of(new Parser(tokenize(xpath)).path());
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static List<String> tokenize(String xpath) {
+        List<String> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < xpath.length()) {
+            char c = xpath.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '\'' || c == '"') {
+                int end = xpath.indexOf(c, i + 1);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Unterminated string");
+                }
+                tokens.add(xpath.substring(i, end + 1));
+                i = end + 1;
+            } else if (c == '/' && i + 1 < xpath.length() && xpath.charAt(i + 1) == '/') {
+                tokens.add("//");
+                i += 2;
+            } else if (Character.isLetterOrDigit(c) || c == '_') {
+                int end = i;
+                while (end < xpath.length() && (Character.isLetterOrDigit(xpath.charAt(end))
+                        || xpath.charAt(end) == '_' || xpath.charAt(end) == '-' || xpath.charAt(end) == '.')) {
+                    end++;
+                }
+                tokens.add(xpath.substring(i, end));
+                i = end;
+            } else if ("/[]()@=,*".indexOf(c) >= 0) {
+                tokens.add(String.valueOf(c));
+                i++;
+            } else {
+                throw new IllegalArgumentException("Unsupported character " + c);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Recursive-descent parser over the supported subset; throws IllegalArgumentException on
+     * anything outside it.
+     */
+    private static final class Parser {
+
+        private final List<String> tokens;
+        private int position;
+        /** Element name of the step being parsed, once known. */
+        private String tag;
+
+        private Parser(List<String> tokens) {
+            this.tokens = tokens;
+        }
+
+        private String path() {
+            if (!"//".equals(peek())) {
+                // Absolute paths from the document root have no use in page objects
+                throw new IllegalArgumentException("Path must start with //");
+            }
+            StringBuilder css = new StringBuilder();
+            while (position < tokens.size()) {
+                String separator = next();
+                if (css.length() > 0) {
+                    css.append("//".equals(separator) ? " " : " > ");
+                } else if (!"//".equals(separator)) {
+                    throw new IllegalArgumentException("Expected a step separator");
+                }
+                css.append(step());
+            }
+            return css.toString();
+        }
+
+        private String step() {
+            String test = next();
+            boolean named = !"*".equals(test);
+            if ("*".equals(test)) {
+                tag = null;
+            } else if (IDENT.matcher(test).matches() && !"(".equals(peek())) {
+                if (!HTML_ELEMENTS.contains(test.toLowerCase(Locale.ROOT)) && !test.contains("-")) {
+                    // e.g. svg or path: XPath skips them outside the HTML namespace, CSS would not
+                    throw new IllegalArgumentException("Not an HTML element name " + test);
+                }
+                tag = test;
+            } else {
+                throw new IllegalArgumentException("Unsupported node test " + test);
+            }
+            StringBuilder filters = new StringBuilder();
+            String nth = null;
+            boolean attributesSeen = false;
+            while ("[".equals(peek())) {
+                next();
+                if (peek() != null && peek().chars().allMatch(Character::isDigit)) {
+                    if (nth != null || attributesSeen) {
+                        throw new IllegalArgumentException("Position after another predicate");
+                    }
+                    // Positions count same-named siblings once the name is known, all siblings for *
+                    nth = (tag == null ? ":nth-child(" : ":nth-of-type(") + next() + ")";
+                } else {
+                    String conditions = conjunction();
+                    filters.append(conditions);
+                    attributesSeen |= !conditions.isEmpty();
+                }
+                expect("]");
+            }
+            StringBuilder css = new StringBuilder(tag == null ? "*" : tag);
+            if (nth != null) {
+                css.append(nth);
+            }
+            if (tag != null && named && SHARED_WITH_SVG.contains(tag.toLowerCase(Locale.ROOT))) {
+                css.append(":not(svg *)");
+            }
+            return css.append(filters).toString();
+        }
+
+        private String nameTest() {
+            if (tag != null) {
+                throw new IllegalArgumentException("Second element name test");
+            }
+            expect("(");
+            expect(")");
+            expect("=");
+            String name = literal(next());
+            if (!IDENT.matcher(name).matches()) {
+                throw new IllegalArgumentException("Unsupported element name " + name);
+            }
+            return name;
+        }
+
+        private String conjunction() {
+            StringBuilder css = new StringBuilder(condition());
+            while ("and".equals(peek())) {
+                next();
+                css.append(condition());
+            }
+            return css.toString();
+        }
+
+        private String condition() {
+            String token = next();
+            if ("name".equals(token)) {
+                // *[name()='svg'] reaches elements outside the HTML namespace; CSS type selectors do too
+                tag = nameTest();
+                return "";
+            }
+            if ("@".equals(token)) {
+                String attribute = attributeName();
+                if ("=".equals(peek())) {
+                    next();
+                    return "[" + attribute + "=" + quote(literal(next())) + "]";
+                }
+                return "[" + attribute + "]";
+            }
+            String operator = switch (token) {
+                case "contains" -> "*=";
+                case "starts-with" -> "^=";
+                default -> throw new IllegalArgumentException("Unsupported predicate " + token);
+            };
+            expect("(");
+            expect("@");
+            String attribute = attributeName();
+            expect(",");
+            String value = literal(next());
+            expect(")");
+            if (value.isEmpty()) {
+                // contains(@a, '') is true for any present attribute; CSS *= "" matches nothing
+                return "[" + attribute + "]";
+            }
+            return "[" + attribute + operator + quote(value) + "]";
+        }
+
+        private String attributeName() {
+            String name = next();
+            if (name == null || !IDENT.matcher(name).matches()) {
+                throw new IllegalArgumentException("Unsupported attribute " + name);
+            }
+            return name;
+        }
+
+        private String literal(String token) {
+            if (token == null || token.length() < 2 || (token.charAt(0) != '\'' && token.charAt(0) != '"')) {
+                throw new IllegalArgumentException("Expected a string literal");
+            }
+            return token.substring(1, token.length() - 1);
+        }
+
+        private String quote(String value) {
+            return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\a ") + "\"";
+        }
+
+        private void expect(String token) {
+            if (!token.equals(next())) {
+                throw new IllegalArgumentException("Expected " + token);
+            }
+        }
+
+        private String peek() {
+            return position < tokens.size() ? tokens.get(position) : null;
+        }
+
+        private String next() {
+            if (position >= tokens.size()) {
+                throw new IllegalArgumentException("Unexpected end");
+            }
+            return tokens.get(position++);
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package com.liftofftech.falcon.core.driver;
+
+import com.liftofftech.falcon.core.config.FrameworkConfig;
+import com.liftofftech.falcon.core.reporting.ExecutionMetrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pool of pre-started Xvfb servers for headed runs on Linux. Every local browser gets a
+ * virtual display of its own for as long as its session lives, so parallel headed sessions
+ * no longer share focus, keyboard or clipboard. Displays are health-checked before each
+ * lease and restarted when their server died, and recycled (restarted) after
+ * {@code xvfb.max.uses} leases so leftovers of earlier sessions do not accumulate.
+ * <p>
+ * Used when {@code xvfb.enabled=true}, {@code headless=false} and the run is local on Linux.
+ * Display numbers start at {@code xvfb.display.base}; numbers held by other processes on the
+ * host are skipped.
+ */
+public final class XvfbDisplayPool {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(10);
+    private static final Path X11_SOCKETS = Paths.get("/tmp/.X11-unix");
+
+    private static final ReentrantLock LOCK = new ReentrantLock(true);
+    private static final Condition AVAILABLE = LOCK.newCondition();
+    private static final Deque<Display> IDLE = new ArrayDeque<>();
+    private static final Set<Integer> CLAIMED = new HashSet<>();
+    private static final List<Display> ALL = new ArrayList<>();
+
+    private static int liveDisplays;
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(XvfbDisplayPool::shutdown, "xvfb-shutdown"));
+    }
+
+    private XvfbDisplayPool() {
+        // utility
+    }
+
+    /**
+     * Returns whether local browsers are started on pooled virtual displays.
+     */
+    public static boolean enabled() {
+        return FrameworkConfig.xvfbEnabled() && !FrameworkConfig.headless() && !FrameworkConfig.remoteExecution()
+                && System.getProperty("os.name").toLowerCase(Locale.ROOT).contains("linux");
+    }
+
+    /**
+     * Starts displays until the pool holds {@code count}, so the first launches do not wait for Xvfb.
+     */
+    public static void prestart(int count) {
+        int target = Math.min(count, FrameworkConfig.xvfbPoolSize());
+        List<Display> started = new ArrayList<>();
+        while (true) {
+            LOCK.lock();
+            try {
+                if (liveDisplays >= target) {
+                    break;
+                }
+                liveDisplays++;
+            } finally {
+                LOCK.unlock();
+            }
+            started.add(launch());
+        }
+        LOCK.lock();
+        try {
+            IDLE.addAll(started);
+            AVAILABLE.signalAll();
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * Leases a healthy display, starting one when the pool has room and waiting otherwise.
+     *
+     * @return a display owned by the caller until {@link #release}
+     * @throws IllegalStateException if no display frees up within {@code xvfb.lease.timeout}
+     */
+    public static Display lease() {
+        long start = System.nanoTime();
+        long remaining = FrameworkConfig.xvfbLeaseTimeout().toNanos();
+        Display display = null;
+        LOCK.lock();
+        try {
+            while (display == null) {
+                display = IDLE.pollFirst();
+                if (display == null && liveDisplays < FrameworkConfig.xvfbPoolSize()) {
+                    liveDisplays++;
+                    break;
+                }
+                if (display == null) {
+                    if (remaining <= 0) {
+                        ExecutionMetrics.increment("xvfb.display.lease.timeout");
+                        throw new IllegalStateException("No virtual display became free within "
+                                + FrameworkConfig.xvfbLeaseTimeout().toSeconds() + " s; all " + liveDisplays
+                                + " displays are held by open sessions. Raise xvfb.pool.size or run fewer"
+                                + " browsers at once (workers plus driver.pool prewarming).");
+                    }
+                    try {
+                        remaining = AVAILABLE.awaitNanos(remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrupted while waiting for a virtual display", e);
+                    }
+                }
+            }
+        } finally {
+            LOCK.unlock();
+        }
+
+        if (display == null) {
+            display = launch();
+        } else if (!display.isHealthy()) {
+            System.err.println("Display " + display.name() + " is unhealthy, restarting it.");
+            ExecutionMetrics.increment("xvfb.display.restart");
+            display = restart(display);
+        } else if (display.uses >= FrameworkConfig.xvfbMaxUses()) {
+            ExecutionMetrics.increment("xvfb.display.recycled");
+            display = restart(display);
+        }
+        display.uses++;
+        ExecutionMetrics.recordTime("xvfb.display.lease.wait", System.nanoTime() - start);
+        return display;
+    }
+
+    /**
+     * Returns a display to the pool once the browser on it has been quit.
+     */
+    public static void release(Display display) {
+        LOCK.lock();
+        try {
+            if (ALL.contains(display)) {
+                IDLE.addFirst(display);
+            } else {
+                liveDisplays = Math.max(0, liveDisplays - 1);
+            }
+            AVAILABLE.signal();
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * Stops every display server started by the pool.
+     */
+    public static void shutdown() {
+        List<Display> displays;
+        LOCK.lock();
+        try {
+            displays = new ArrayList<>(ALL);
+            ALL.clear();
+            IDLE.clear();
+            CLAIMED.clear();
+            liveDisplays = 0;
+        } finally {
+            LOCK.unlock();
+        }
+        displays.forEach(Display::stop);
+    }
+
+    private static Display restart(Display display) {
+        LOCK.lock();
+        try {
+            ALL.remove(display);
+            CLAIMED.remove(display.number);
+        } finally {
+            LOCK.unlock();
+        }
+        display.stop();
+        return launch();
+    }
+
+    /**
+     * Starts an Xvfb server on the first free display number. The caller has already
+     * counted it in {@code liveDisplays}; the count is given back if the launch fails.
+     */
+    private static Display launch() {
+        long start = System.nanoTime();
+        try {
+            for (int attempt = 0; attempt < 10; attempt++) {
+                int number = claimNumber();
+                Display display = start(number);
+                if (display != null) {
+                    LOCK.lock();
+                    try {
+                        ALL.add(display);
+                    } finally {
+                        LOCK.unlock();
+                    }
+                    ProcessReaper.track();
+                    ExecutionMetrics.recordTime("xvfb.display.start", System.nanoTime() - start);
+                    return display;
+                }
+            }
+            throw new IllegalStateException("Could not start Xvfb after 10 attempts; see the errors above");
+        } catch (RuntimeException e) {
+            LOCK.lock();
+            try {
+                liveDisplays--;
+                AVAILABLE.signal();
+            } finally {
+                LOCK.unlock();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the lowest display number not used by this pool or any other X server on the host.
+     */
+    private static int claimNumber() {
+        LOCK.lock();
+        try {
+            int number = FrameworkConfig.xvfbDisplayBase();
+            while (CLAIMED.contains(number) || Files.exists(X11_SOCKETS.resolve("X" + number))
+                    || Files.exists(Paths.get("/tmp/.X" + number + "-lock"))) {
+                number++;
+            }
+            CLAIMED.add(number);
+            return number;
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    private static Display start(int number) {
+        String[] size = FrameworkConfig.browserWindowSize().split(",");
+        String screen = size[0].trim() + "x" + size[1].trim() + "x24";
+        Process process;
+        try {
+            process = new ProcessBuilder(FrameworkConfig.xvfbExecutable(), ":" + number,
+                    "-screen", "0", screen, "-nolisten", "tcp", "-noreset")
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .redirectError(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot run " + FrameworkConfig.xvfbExecutable()
+                    + "; install Xvfb or set xvfb.executable", e);
+        }
+        Display display = new Display(number, process);
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (display.isHealthy()) {
+                return display;
+            }
+            if (!process.isAlive()) {
+                // Another server took the number first
+                System.err.println("Xvfb on :" + number + " exited with " + process.exitValue() + ", trying another display");
+                return null;
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                display.stop();
+                throw new IllegalStateException("Interrupted while starting Xvfb", e);
+            }
+        }
+        display.stop();
+        System.err.println("Xvfb on :" + number + " did not come up within " + STARTUP_TIMEOUT.toSeconds() + " s");
+        return null;
+    }
+
+    /**
+     * A running virtual display.
+     */
+    public static final class Display {
+
+        private final int number;
+        private final Process process;
+        private int uses;
+
+        private Display(int number, Process process) {
+            this.number = number;
+            this.process = process;
+        }
+
+        /**
+         * Returns the {@code DISPLAY} value, e.g. {@code :90}.
+         */
+        public String name() {
+            return ":" + number;
+        }
+
+        /**
+         * Returns the environment a driver server needs to put its browser on this display.
+         */
+        public Map<String, String> environment() {
+            return Map.of("DISPLAY", name());
+        }
+
+        private boolean isHealthy() {
+            return process.isAlive() && Files.exists(X11_SOCKETS.resolve("X" + number));
+        }
+
+        private void stop() {
+            process.destroy();
+            try {
+                if (!process.waitFor(2, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                process.destroyForcibly();
+            }
+        }
+    }
+}
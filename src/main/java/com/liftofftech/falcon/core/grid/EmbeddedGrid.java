@@ -0,0 +1,203 @@
+package com.liftofftech.falcon.core.grid;
+
+import com.liftofftech.falcon.core.config.FrameworkConfig;
+import com.liftofftech.falcon.core.driver.DriverBinaryResolver;
+import com.liftofftech.falcon.core.driver.ProcessReaper;
+import com.liftofftech.falcon.core.reporting.ExecutionMetrics;
+import com.liftofftech.falcon.core.utils.SystemResources;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.edge.EdgeDriverService;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Selenium Grid started and stopped by the framework around a {@code remote=true} run,
+ * as child JVMs built from the test classpath. Session slots are sized from the cores and
+ * free memory of this machine, so a single box runs as many remote sessions as it can hold.
+ * Once started, {@code grid.url} points at the embedded grid for the rest of the run; with
+ * {@code grid.embedded.instances} above 1 it lists several independent grids on this machine.
+ */
+public final class EmbeddedGrid {
+
+    private static final String GRID_MAIN = "org.openqa.selenium.grid.Main";
+    private static final List<Process> PROCESSES = new ArrayList<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(EmbeddedGrid::stop, "embedded-grid-shutdown"));
+    }
+
+    private EmbeddedGrid() {
+        // utility
+    }
+
+    /**
+     * Starts the grids configured by {@code grid.embedded} and {@code grid.embedded.instances}
+     * and waits until every node has registered.
+     *
+     * @return the WebDriver URLs of the embedded grids, comma separated
+     */
+    public static synchronized String start() {
+        EmbeddedGridMode mode = FrameworkConfig.gridEmbeddedMode();
+        if (mode == EmbeddedGridMode.NONE) {
+            throw new IllegalStateException("grid.embedded is none; nothing to start.");
+        }
+        long start = System.nanoTime();
+        int sessions = plannedSessions();
+        int instances = Math.max(1, Math.min(sessions, FrameworkConfig.gridEmbeddedInstances()));
+
+        try {
+            // Nodes use the driver binaries this JVM already resolved and cached
+            DriverBinaryResolver.resolve(FrameworkConfig.browser());
+        } catch (RuntimeException e) {
+            System.err.println("Embedded grid nodes will look up drivers themselves: " + e.getMessage());
+        }
+        Map<String, Integer> grids = new LinkedHashMap<>();
+        for (int instance = 0; instance < instances; instance++) {
+            // Spread the slots evenly; the first grids take the remainder
+            int gridSessions = sessions / instances + (instance < sessions % instances ? 1 : 0);
+            String prefix = instances == 1 ? "" : "grid-" + instance + "-";
+            grids.put(launchGrid(mode, prefix, gridSessions), gridSessions);
+        }
+        ProcessReaper.track();
+
+        grids.forEach(EmbeddedGrid::awaitCapacity);
+        ExecutionMetrics.recordTime("grid.embedded.start", System.nanoTime() - start);
+        String urls = String.join(",", grids.keySet());
+        System.out.println("Embedded " + mode.name().toLowerCase(Locale.ROOT) + " grid" + (instances == 1 ? "" : "s")
+                + " with " + sessions + " session slots ready at " + urls);
+        System.setProperty("grid.url", urls);
+        return urls;
+    }
+
+    private static String launchGrid(EmbeddedGridMode mode, String prefix, int sessions) {
+        int routerPort = freePort();
+        String url = "http://127.0.0.1:" + routerPort;
+        if (mode == EmbeddedGridMode.STANDALONE) {
+            launch(prefix + "standalone", "standalone", List.of("--port", String.valueOf(routerPort),
+                    "--max-sessions", String.valueOf(sessions), "--override-max-sessions", "true"));
+        } else {
+            launch(prefix + "hub", "hub", List.of("--port", String.valueOf(routerPort)));
+            int nodes = Math.min(sessions, FrameworkConfig.gridEmbeddedNodes() > 0
+                    ? FrameworkConfig.gridEmbeddedNodes()
+                    : (int) Math.ceil(sessions / 4.0));
+            for (int node = 0; node < nodes; node++) {
+                int nodeSessions = sessions / nodes + (node < sessions % nodes ? 1 : 0);
+                launch(prefix + "node-" + node, "node", List.of("--hub", url, "--port", String.valueOf(freePort()),
+                        "--max-sessions", String.valueOf(nodeSessions), "--override-max-sessions", "true"));
+            }
+        }
+        return url;
+    }
+
+    /**
+     * Stops every grid process, giving each a few seconds to end its sessions.
+     */
+    public static synchronized void stop() {
+        for (Process process : PROCESSES) {
+            process.destroy();
+        }
+        for (Process process : PROCESSES) {
+            try {
+                if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                process.destroyForcibly();
+            }
+        }
+        PROCESSES.clear();
+    }
+
+    /**
+     * Returns the session slots this machine can hold: one per core, limited by the memory
+     * left after {@code browser.launch.min.free.memory.mb} at {@code grid.embedded.session.memory.mb}
+     * per browser, unless {@code grid.embedded.max.sessions} is set.
+     */
+    static int plannedSessions() {
+        int configured = FrameworkConfig.gridEmbeddedMaxSessions();
+        if (configured > 0) {
+            return configured;
+        }
+        long available = SystemResources.availableMemoryMb();
+        int byMemory = available < 0
+                ? Integer.MAX_VALUE
+                : (int) ((available - FrameworkConfig.launchMinFreeMemoryMb()) / FrameworkConfig.gridEmbeddedSessionMemoryMb());
+        return Math.max(1, Math.min(SystemResources.cpuCount(), byMemory));
+    }
+
+    private static void launch(String name, String role, List<String> arguments) {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        for (String property : List.of(ChromeDriverService.CHROME_DRIVER_EXE_PROPERTY,
+                EdgeDriverService.EDGE_DRIVER_EXE_PROPERTY)) {
+            String value = System.getProperty(property);
+            if (value != null) {
+                command.add("-D" + property + "=" + value);
+            }
+        }
+        command.add(GRID_MAIN);
+        command.add(role);
+        command.addAll(arguments);
+        command.addAll(List.of("--host", "127.0.0.1"));
+
+        Path log = Paths.get("target", "grid", name + ".log");
+        try {
+            Files.createDirectories(log.getParent());
+            Process process = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(log.toFile())
+                    .start();
+            PROCESSES.add(process);
+        } catch (IOException e) {
+            stop();
+            throw new UncheckedIOException("Failed to start embedded grid " + name, e);
+        }
+    }
+
+    private static void awaitCapacity(String url, int sessions) {
+        long deadline = System.nanoTime() + FrameworkConfig.gridEmbeddedStartupTimeout().toNanos();
+        while (System.nanoTime() < deadline) {
+            if (PROCESSES.stream().anyMatch(process -> !process.isAlive())) {
+                stop();
+                throw new IllegalStateException("Embedded grid process exited during startup; see target/grid/*.log");
+            }
+            boolean ready = GridStatusClient.isReady(url) && GridStatusClient.fetch(url)
+                    .map(status -> status.maxSessions() >= sessions)
+                    .orElse(false);
+            if (ready) {
+                return;
+            }
+            try {
+                Thread.sleep(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        stop();
+        throw new IllegalStateException("Embedded grid did not become ready within "
+                + FrameworkConfig.gridEmbeddedStartupTimeout().toSeconds() + "s; see target/grid/*.log");
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No free port for the embedded grid", e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.liftofftech.falcon.core.grid;
+
+import java.util.Locale;
+
+/**
+ * Topology of the Selenium Grid the framework starts itself for {@code remote=true} runs.
+ */
+public enum EmbeddedGridMode {
+    /** No embedded grid; {@code grid.url} points at an externally managed grid (default). */
+    NONE,
+    /** One standalone process acting as router, distributor and node. */
+    STANDALONE,
+    /** A hub process plus several node processes sharing the session slots. */
+    HUB;
+
+    public static EmbeddedGridMode from(String value) {
+        if (value == null) {
+            return NONE;
+        }
+        return EmbeddedGridMode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
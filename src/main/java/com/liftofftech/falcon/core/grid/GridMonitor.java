@@ -0,0 +1,104 @@
+package com.liftofftech.falcon.core.grid;
+
+import com.liftofftech.falcon.core.reporting.ExecutionMetrics;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples the grids' session queue and slot utilisation while a remote run is in progress
+ * and publishes the aggregates as {@code grid.*} gauges in the execution metrics. With several
+ * grids the queue is the sum over all of them and utilisation is measured against their total slots.
+ */
+public final class GridMonitor {
+
+    private static final long SAMPLE_INTERVAL_SECONDS = 2;
+
+    private static ScheduledExecutorService sampler;
+    private static int samples;
+    private static int lastQueueSize;
+    private static int maxQueueSize;
+    private static double utilisationSum;
+    private static double maxUtilisation;
+
+    static {
+        ExecutionMetrics.gauge("grid.session.queue.size.max", GridMonitor::maxQueueSize);
+        ExecutionMetrics.gauge("grid.slot.utilisation.max", GridMonitor::maxUtilisation);
+        ExecutionMetrics.gauge("grid.slot.utilisation.avg", GridMonitor::averageUtilisation);
+    }
+
+    private GridMonitor() {
+        // utility
+    }
+
+    /**
+     * Starts sampling the grids behind the given WebDriver URLs. Does nothing if already sampling.
+     */
+    public static synchronized void start(List<String> gridUrls) {
+        if (sampler != null) {
+            return;
+        }
+        sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "grid-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sampler.scheduleWithFixedDelay(() -> sample(gridUrls), 0, SAMPLE_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    public static synchronized void stop() {
+        if (sampler != null) {
+            sampler.shutdownNow();
+            sampler = null;
+        }
+    }
+
+    /**
+     * Returns the most recently sampled number of session requests waiting for a slot.
+     */
+    public static synchronized int queueSize() {
+        return lastQueueSize;
+    }
+
+    private static void sample(List<String> gridUrls) {
+        int slots = 0;
+        int active = 0;
+        int queued = 0;
+        boolean reached = false;
+        for (String gridUrl : gridUrls) {
+            Optional<GridStatusClient.GridStatus> status = GridStatusClient.fetch(gridUrl);
+            if (status.isPresent()) {
+                reached = true;
+                slots += status.get().maxSessions();
+                active += status.get().activeSessions();
+                queued += status.get().queueSize();
+            }
+        }
+        if (!reached) {
+            return;
+        }
+        double utilisation = slots == 0 ? 0.0 : (double) active / slots;
+        synchronized (GridMonitor.class) {
+            samples++;
+            lastQueueSize = queued;
+            maxQueueSize = Math.max(maxQueueSize, queued);
+            utilisationSum += utilisation;
+            maxUtilisation = Math.max(maxUtilisation, utilisation);
+        }
+    }
+
+    private static synchronized double maxQueueSize() {
+        return maxQueueSize;
+    }
+
+    private static synchronized double maxUtilisation() {
+        return maxUtilisation;
+    }
+
+    private static synchronized double averageUtilisation() {
+        return samples == 0 ? 0.0 : utilisationSum / samples;
+    }
+}
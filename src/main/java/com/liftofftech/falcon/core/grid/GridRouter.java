@@ -0,0 +1,176 @@
+package com.liftofftech.falcon.core.grid;
+
+import com.liftofftech.falcon.core.config.FrameworkConfig;
+import com.liftofftech.falcon.core.reporting.ExecutionMetrics;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Chooses the grid endpoint for each new remote session when {@code grid.url} lists several.
+ * Endpoints are ranked by free slots (slots minus running sessions, queued requests and sessions
+ * this JVM is currently creating there), read from each grid's GraphQL status and cached for
+ * {@code grid.router.status.ttl.ms} (sessions started since the last read count as busy). When every endpoint is full the request spills over to the
+ * one with the shortest queue per slot. An endpoint that fails {@code grid.router.max.failures}
+ * times in a row is skipped for {@code grid.router.down.seconds}.
+ */
+public final class GridRouter {
+
+    private static final Map<String, Endpoint> ENDPOINTS = new ConcurrentHashMap<>();
+
+    private GridRouter() {
+        // utility
+    }
+
+    /**
+     * Reserves the best endpoint for a new session. Every call must be paired with
+     * {@link #release(String, boolean)} once the session was created or failed.
+     *
+     * @param excluded endpoints already tried for this session
+     * @return WebDriver URL of the chosen endpoint
+     */
+    public static String acquire(Collection<String> excluded) {
+        List<String> urls = FrameworkConfig.gridUrls();
+        if (urls.size() == 1) {
+            return urls.get(0);
+        }
+        long now = System.nanoTime();
+        List<Endpoint> untried = urls.stream()
+                .filter(url -> !excluded.contains(url))
+                .map(url -> ENDPOINTS.computeIfAbsent(url, Endpoint::new))
+                .collect(Collectors.toList());
+        List<Endpoint> candidates = untried.stream()
+                .filter(endpoint -> endpoint.isUp(now))
+                .collect(Collectors.toList());
+        if (candidates.isEmpty()) {
+            // Everything left is marked down: try it anyway rather than failing outright
+            candidates = untried.isEmpty()
+                    ? urls.stream().map(url -> ENDPOINTS.computeIfAbsent(url, Endpoint::new)).collect(Collectors.toList())
+                    : untried;
+        }
+
+        // Status reads are HTTP calls; only picking the endpoint and reserving it holds the lock
+        candidates.forEach(endpoint -> endpoint.refresh(now));
+        Endpoint best;
+        synchronized (GridRouter.class) {
+            best = candidates.stream()
+                    .max(Comparator.comparingInt(Endpoint::freeSlots))
+                    .filter(endpoint -> endpoint.freeSlots() > 0)
+                    .orElse(null);
+            if (best == null) {
+                ExecutionMetrics.increment("grid.router.spillover");
+                best = candidates.stream().min(Comparator.comparingDouble(Endpoint::queuePerSlot)).orElseThrow();
+            }
+            best.pending++;
+        }
+        ExecutionMetrics.increment("grid.router.sessions." + GridStatusClient.baseUrl(best.url).replaceAll("^https?://", ""));
+        return best.url;
+    }
+
+    /**
+     * Releases the reservation made by {@link #acquire(Collection)} and records the outcome.
+     *
+     * @param url       endpoint returned by {@code acquire}
+     * @param succeeded whether the session was created
+     */
+    public static void release(String url, boolean succeeded) {
+        Endpoint endpoint = ENDPOINTS.get(url);
+        if (endpoint == null) {
+            return;
+        }
+        synchronized (GridRouter.class) {
+            endpoint.pending = Math.max(0, endpoint.pending - 1);
+            if (succeeded) {
+                endpoint.failures = 0;
+                endpoint.startedSinceRefresh++;
+            } else {
+                endpoint.recordFailure(System.nanoTime());
+            }
+        }
+    }
+
+    private static final class Endpoint {
+
+        private final String url;
+        /** Lets one thread at a time read this endpoint's status; the others wait for its result. */
+        private final ReentrantLock refreshLock = new ReentrantLock();
+        private GridStatusClient.GridStatus status;
+        private long fetchedAt;
+        private int pending;
+        private int startedSinceRefresh;
+        private int failures;
+        private long downUntil;
+
+        private Endpoint(String url) {
+            this.url = url;
+        }
+
+        private boolean isUp(long now) {
+            synchronized (GridRouter.class) {
+                return now >= downUntil;
+            }
+        }
+
+        private void refresh(long now) {
+            if (isFresh(now)) {
+                return;
+            }
+            refreshLock.lock();
+            try {
+                if (isFresh(now)) {
+                    // Another thread read it while this one waited
+                    return;
+                }
+                Optional<GridStatusClient.GridStatus> fetched = GridStatusClient.fetch(url);
+                synchronized (GridRouter.class) {
+                    fetchedAt = now;
+                    startedSinceRefresh = 0;
+                    if (fetched.isPresent()) {
+                        status = fetched.get();
+                    } else {
+                        status = null;
+                        recordFailure(now);
+                    }
+                }
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+
+        private boolean isFresh(long now) {
+            synchronized (GridRouter.class) {
+                return status != null && now - fetchedAt < FrameworkConfig.gridRouterStatusTtl().toNanos();
+            }
+        }
+
+        private void recordFailure(long now) {
+            failures++;
+            if (failures >= FrameworkConfig.gridRouterMaxFailures()) {
+                System.err.println("Grid endpoint " + url + " marked down after " + failures + " failures.");
+                ExecutionMetrics.increment("grid.router.endpoint.down");
+                downUntil = now + FrameworkConfig.gridRouterDownTime().toNanos();
+                failures = 0;
+            }
+        }
+
+        private int freeSlots() {
+            if (status == null) {
+                return Integer.MIN_VALUE;
+            }
+            return status.maxSessions() - status.activeSessions() - status.queueSize() - pending - startedSinceRefresh;
+        }
+
+        private double queuePerSlot() {
+            if (status == null) {
+                return Double.MAX_VALUE;
+            }
+            return (double) (status.queueSize() + pending) / Math.max(1, status.maxSessions());
+        }
+    }
+}
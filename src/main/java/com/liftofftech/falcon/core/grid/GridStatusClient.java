@@ -0,0 +1,130 @@
+package com.liftofftech.falcon.core.grid;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.liftofftech.falcon.core.utils.JsonUtils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reads readiness and capacity of a Selenium Grid 4 through its {@code /status}
+ * endpoint and GraphQL API.
+ */
+public final class GridStatusClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(2);
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+            .connectTimeout(TIMEOUT)
+            .build();
+    private static final String CAPACITY_QUERY =
+            "{ grid { nodeCount maxSession sessionCount sessionQueueSize } }";
+
+    private GridStatusClient() {
+        // utility
+    }
+
+    /**
+     * Returns the grid's root URL for a WebDriver endpoint such as {@code http://host:4444/wd/hub}.
+     */
+    public static String baseUrl(String gridUrl) {
+        String base = gridUrl.replaceAll("/+$", "");
+        return base.endsWith("/wd/hub") ? base.substring(0, base.length() - "/wd/hub".length()) : base;
+    }
+
+    /**
+     * Returns whether the grid reports itself ready to accept sessions.
+     */
+    public static boolean isReady(String gridUrl) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl(gridUrl) + "/status"))
+                    .timeout(TIMEOUT)
+                    .GET()
+                    .build();
+            HttpResponse<String> response = CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+            return response.statusCode() == 200
+                    && JsonUtils.parse(response.body()).path("value").path("ready").asBoolean(false);
+        } catch (IOException | RuntimeException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Fetches the grid's current capacity and load.
+     *
+     * @return the status, or empty if the grid could not be reached
+     */
+    public static Optional<GridStatus> fetch(String gridUrl) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl(gridUrl) + "/graphql"))
+                    .timeout(TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(JsonUtils.toJson(Map.of("query", CAPACITY_QUERY))))
+                    .build();
+            HttpResponse<String> response = CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                return Optional.empty();
+            }
+            JsonNode grid = JsonUtils.parse(response.body()).path("data").path("grid");
+            if (grid.isMissingNode()) {
+                return Optional.empty();
+            }
+            return Optional.of(new GridStatus(grid.path("nodeCount").asInt(), grid.path("maxSession").asInt(),
+                    grid.path("sessionCount").asInt(), grid.path("sessionQueueSize").asInt()));
+        } catch (IOException | RuntimeException e) {
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Point-in-time grid capacity and load.
+     */
+    public static final class GridStatus {
+
+        private final int nodeCount;
+        private final int maxSessions;
+        private final int activeSessions;
+        private final int queueSize;
+
+        GridStatus(int nodeCount, int maxSessions, int activeSessions, int queueSize) {
+            this.nodeCount = nodeCount;
+            this.maxSessions = maxSessions;
+            this.activeSessions = activeSessions;
+            this.queueSize = queueSize;
+        }
+
+        public int nodeCount() {
+            return nodeCount;
+        }
+
+        public int maxSessions() {
+            return maxSessions;
+        }
+
+        public int activeSessions() {
+            return activeSessions;
+        }
+
+        public int queueSize() {
+            return queueSize;
+        }
+
+        /**
+         * Returns the share of session slots in use, from 0.0 to 1.0.
+         */
+        public double slotUtilisation() {
+            return maxSessions == 0 ? 0.0 : (double) activeSessions / maxSessions;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.liftofftech.falcon.core.parallel;
+
+import com.liftofftech.falcon.core.config.FrameworkConfig;
+import com.liftofftech.falcon.core.utils.SystemResources;
+
+import java.util.Locale;
+
+/**
+ * Identifies a class of runner for which one calibrated thread count is valid:
+ * operating system, cores, memory (rounded to whole gigabytes), browser and headless mode.
+ */
+public final class MachineProfile {
+
+    private MachineProfile() {
+        // utility
+    }
+
+    /**
+     * Returns the profile key of the current machine and browser configuration,
+     * e.g. {@code linux-8cpu-16gb-chrome-headless}.
+     *
+     * @return profile key
+     */
+    public static String current() {
+        String os = System.getProperty("os.name").toLowerCase(Locale.ROOT).split("\\s+")[0];
+        long memoryGb = Math.max(1, Math.round(SystemResources.totalMemoryMb() / 1024.0));
+        String browser = FrameworkConfig.browser().name().toLowerCase(Locale.ROOT);
+        String display = FrameworkConfig.headless() ? "headless" : "headed";
+        return os + "-" + SystemResources.cpuCount() + "cpu-" + memoryGb + "gb-" + browser + "-" + display;
+    }
+}
@@ -0,0 +1,75 @@
+package com.liftofftech.falcon.core.parallel;
+
+import com.liftofftech.falcon.core.config.FrameworkConfig;
+import com.liftofftech.falcon.core.grid.GridStatusClient;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.List;
+import java.util.OptionalInt;
+
+/**
+ * Replaces the static {@code thread-count} of the suite XML before the run starts.
+ * An explicit {@code parallel.threads} wins; otherwise, with {@code parallel.autotune=true},
+ * the count calibrated for this {@link MachineProfile} is used. Without either the
+ * suite XML values stay as they are.
+ * <p>
+ * Remote runs on virtual threads ({@code parallel.virtual.threads}) are sized to the total
+ * slots of the configured grids instead, since their workers cost nothing while they wait.
+ */
+public class ParallelismAlterSuiteListener implements IAlterSuiteListener {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        OptionalInt threads = resolveThreads();
+        if (threads.isEmpty()) {
+            return;
+        }
+        int count = threads.getAsInt();
+        for (XmlSuite suite : suites) {
+            suite.setThreadCount(count);
+            for (XmlTest test : suite.getTests()) {
+                if (test.getParallel() != null && test.getParallel().isParallel()) {
+                    test.setThreadCount(count);
+                }
+            }
+        }
+    }
+
+    private static OptionalInt resolveThreads() {
+        int forced = FrameworkConfig.parallelThreads();
+        if (forced > 0) {
+            System.out.println("Parallelism: using " + forced + " threads (parallel.threads)");
+            return OptionalInt.of(forced);
+        }
+        if (FrameworkConfig.parallelVirtualThreads() && FrameworkConfig.remoteExecution()) {
+            OptionalInt slots = gridSlots();
+            if (slots.isPresent()) {
+                System.out.println("Parallelism: using " + slots.getAsInt() + " virtual threads (grid slots)");
+                return slots;
+            }
+            System.out.println("Parallelism: grid capacity unknown, keeping suite thread-count");
+            return OptionalInt.empty();
+        }
+        if (!FrameworkConfig.parallelAutotune()) {
+            return OptionalInt.empty();
+        }
+        String profile = MachineProfile.current();
+        OptionalInt calibrated = ParallelismProfileStore.threads(profile);
+        if (calibrated.isPresent()) {
+            System.out.println("Parallelism: using " + calibrated.getAsInt() + " threads calibrated for " + profile);
+        } else {
+            System.out.println("Parallelism: no calibration for " + profile + ", keeping suite thread-count");
+        }
+        return calibrated;
+    }
+
+    private static OptionalInt gridSlots() {
+        int slots = 0;
+        for (String gridUrl : FrameworkConfig.gridUrls()) {
+            slots += GridStatusClient.fetch(gridUrl).map(GridStatusClient.GridStatus::maxSessions).orElse(0);
+        }
+        return slots > 0 ? OptionalInt.of(slots) : OptionalInt.empty();
+    }
+}
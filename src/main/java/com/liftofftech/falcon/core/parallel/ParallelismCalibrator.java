@@ -0,0 +1,247 @@
+package com.liftofftech.falcon.core.parallel;
+
+import com.liftofftech.falcon.core.config.FrameworkConfig;
+import com.liftofftech.falcon.core.utils.SystemResources;
+import org.w3c.dom.Element;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calibration mode for the parallelism autotuner. Runs a representative suite slice
+ * at each thread count in {@code parallel.calibration.levels}, each level in a fresh
+ * JVM so a crash or leaked browser cannot skew the next one, and records throughput,
+ * failure rate, peak load and lowest free memory. The fastest stable level is saved
+ * for the current {@link MachineProfile} and picked up by {@link ParallelismAlterSuiteListener}.
+ *
+ * <p>Run with {@code mvn test-compile exec:exec -Pcalibrate}, optionally combined with an
+ * environment profile and {@code -Dcalibration.suite=testng-image.xml}.</p>
+ */
+public final class ParallelismCalibrator {
+
+    /** Stop climbing once throughput falls this far below the best level seen. */
+    private static final double KNEE_RATIO = 0.9;
+    private static final Set<String> JVM_PROPERTY_PREFIXES = Set.of(
+            "java.", "jdk.", "sun.", "os.", "user.", "file.", "line.", "path.", "native.", "stderr.", "stdout.");
+
+    private ParallelismCalibrator() {
+        // utility
+    }
+
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: ParallelismCalibrator <suite.xml>");
+        }
+        Path suite = Paths.get(args[0]);
+        if (!Files.isRegularFile(suite)) {
+            throw new IllegalArgumentException("Calibration suite not found: " + suite.toAbsolutePath());
+        }
+
+        String profile = MachineProfile.current();
+        double maxFailureRate = FrameworkConfig.parallelCalibrationMaxFailureRate();
+        System.out.println("Calibrating parallelism for " + profile + " with " + suite);
+
+        List<LevelResult> results = new ArrayList<>();
+        LevelResult best = null;
+        for (int threads : levels()) {
+            LevelResult result = runLevel(suite, threads);
+            results.add(result);
+            System.out.println(result);
+
+            if (!result.isStable(maxFailureRate)) {
+                System.out.println("Level " + threads + " is unstable, stopping calibration");
+                break;
+            }
+            if (best == null || result.testsPerMinute > best.testsPerMinute) {
+                best = result;
+            } else if (result.testsPerMinute < best.testsPerMinute * KNEE_RATIO) {
+                System.out.println("Throughput dropped past the knee, stopping calibration");
+                break;
+            }
+        }
+
+        if (best == null) {
+            throw new IllegalStateException("No calibration level was stable; nothing saved for " + profile);
+        }
+        ParallelismProfileStore.save(profile, best.threads, best.testsPerMinute);
+        System.out.println("Saved " + best.threads + " threads for " + profile
+                + " in " + FrameworkConfig.parallelProfileFile());
+    }
+
+    private static List<Integer> levels() {
+        return Arrays.stream(FrameworkConfig.parallelCalibrationLevels().split(","))
+                .map(String::trim)
+                .filter(level -> !level.isEmpty())
+                .map(Integer::parseInt)
+                .filter(level -> level > 0)
+                .sorted()
+                .distinct()
+                .toList();
+    }
+
+    private static LevelResult runLevel(Path suite, int threads) {
+        Path outputDir = Paths.get("target", "calibration", "threads-" + threads);
+        ResourceSampler sampler = new ResourceSampler();
+        long start = System.nanoTime();
+        int exitCode;
+        try {
+            Files.createDirectories(outputDir);
+            Process process = new ProcessBuilder(childCommand(suite, threads, outputDir))
+                    .redirectErrorStream(true)
+                    .redirectOutput(outputDir.resolve("run.log").toFile())
+                    .start();
+            sampler.start();
+            exitCode = process.waitFor();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start calibration run with " + threads + " threads", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Calibration interrupted", e);
+        } finally {
+            sampler.stop();
+        }
+        double minutes = (System.nanoTime() - start) / 60_000_000_000.0;
+
+        int[] counts = readResults(outputDir.resolve("testng-results.xml"));
+        return new LevelResult(threads, counts[0], counts[1], counts[2], minutes, exitCode,
+                sampler.peakLoadPerCore, sampler.minFreeMemoryMb);
+    }
+
+    private static List<String> childCommand(Path suite, int threads, Path outputDir) {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        // Forward framework settings (config.file, browser, headless, ...) given to this JVM
+        for (Map.Entry<Object, Object> entry : System.getProperties().entrySet()) {
+            String key = entry.getKey().toString();
+            if (JVM_PROPERTY_PREFIXES.stream().noneMatch(key::startsWith) && !key.startsWith("parallel.")) {
+                command.add("-D" + key + "=" + entry.getValue());
+            }
+        }
+        command.add("-Dparallel.threads=" + threads);
+        command.add("-Dallure.results.directory=" + outputDir.resolve("allure-results"));
+        command.add("org.testng.TestNG");
+        command.add("-d");
+        command.add(outputDir.toString());
+        command.add(suite.toString());
+        return command;
+    }
+
+    /**
+     * Reads total, failed and skipped test counts from TestNG's {@code testng-results.xml}.
+     */
+    private static int[] readResults(Path resultsFile) {
+        File file = resultsFile.toFile();
+        if (!file.isFile()) {
+            return new int[] {0, 0, 0};
+        }
+        try {
+            Element root = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(file).getDocumentElement();
+            int total = Integer.parseInt(root.getAttribute("total"));
+            int failed = Integer.parseInt(root.getAttribute("failed"));
+            int skipped = Integer.parseInt(root.getAttribute("skipped"));
+            return new int[] {total, failed, skipped};
+        } catch (Exception e) {
+            System.err.println("Unreadable calibration results " + resultsFile + ": " + e.getMessage());
+            return new int[] {0, 0, 0};
+        }
+    }
+
+    /**
+     * Samples host load and free memory once per second while a calibration level runs.
+     */
+    private static final class ResourceSampler {
+
+        private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "calibration-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        private volatile double peakLoadPerCore;
+        private volatile long minFreeMemoryMb = Long.MAX_VALUE;
+
+        private void start() {
+            executor.scheduleAtFixedRate(this::sample, 0, 1, TimeUnit.SECONDS);
+        }
+
+        private void stop() {
+            executor.shutdownNow();
+        }
+
+        private void sample() {
+            double load = SystemResources.loadAverage();
+            if (load >= 0) {
+                peakLoadPerCore = Math.max(peakLoadPerCore, load / SystemResources.cpuCount());
+            }
+            long free = SystemResources.availableMemoryMb();
+            if (free >= 0) {
+                minFreeMemoryMb = Math.min(minFreeMemoryMb, free);
+            }
+        }
+    }
+
+    private static final class LevelResult {
+
+        private final int threads;
+        private final int total;
+        private final int failed;
+        private final int skipped;
+        private final double testsPerMinute;
+        private final int exitCode;
+        private final double peakLoadPerCore;
+        private final long minFreeMemoryMb;
+
+        private LevelResult(int threads, int total, int failed, int skipped, double minutes, int exitCode,
+                            double peakLoadPerCore, long minFreeMemoryMb) {
+            this.threads = threads;
+            this.total = total;
+            this.failed = failed;
+            this.skipped = skipped;
+            this.testsPerMinute = minutes <= 0 ? 0 : total / minutes;
+            this.exitCode = exitCode;
+            this.peakLoadPerCore = peakLoadPerCore;
+            this.minFreeMemoryMb = minFreeMemoryMb;
+        }
+
+        /**
+         * Counts skips as failures: a browser that fails to start in {@code @BeforeMethod}
+         * skips its test rather than failing it.
+         */
+        private double failureRate() {
+            return total == 0 ? 1.0 : (double) (failed + skipped) / total;
+        }
+
+        /**
+         * A level is stable when its tests ran, few of them failed and the host kept
+         * enough memory free for further browser launches.
+         */
+        private boolean isStable(double maxFailureRate) {
+            return total > 0
+                    && failureRate() <= maxFailureRate
+                    && minFreeMemoryMb >= FrameworkConfig.launchMinFreeMemoryMb();
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                    "threads=%d tests=%d failed=%d skipped=%d failureRate=%.2f testsPerMinute=%.2f "
+                            + "peakLoadPerCore=%.2f minFreeMemoryMb=%d exitCode=%d",
+                    threads, total, failed, skipped, failureRate(), testsPerMinute,
+                    peakLoadPerCore, minFreeMemoryMb == Long.MAX_VALUE ? -1 : minFreeMemoryMb, exitCode);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.liftofftech.falcon.core.parallel;
+
+import com.liftofftech.falcon.core.config.FrameworkConfig;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.OptionalInt;
+import java.util.Properties;
+
+/**
+ * Persists calibrated worker thread counts per {@link MachineProfile} in
+ * {@code parallel.profile.file}, so every runner of the same shape reuses one calibration.
+ */
+public final class ParallelismProfileStore {
+
+    private ParallelismProfileStore() {
+        // utility
+    }
+
+    /**
+     * Returns the calibrated thread count for the given profile.
+     *
+     * @param profile machine profile key
+     * @return the saved thread count, or empty if the profile was never calibrated
+     */
+    public static OptionalInt threads(String profile) {
+        String value = read().getProperty(profile + ".threads");
+        if (value == null) {
+            return OptionalInt.empty();
+        }
+        try {
+            return OptionalInt.of(Integer.parseInt(value.trim()));
+        } catch (NumberFormatException e) {
+            System.err.println("Ignoring invalid calibrated thread count '" + value + "' for " + profile);
+            return OptionalInt.empty();
+        }
+    }
+
+    /**
+     * Saves the calibration result for the given profile, replacing any earlier one.
+     *
+     * @param profile       machine profile key
+     * @param threads       best thread count
+     * @param testsPerMinute throughput measured at that thread count
+     */
+    public static synchronized void save(String profile, int threads, double testsPerMinute) {
+        Path file = Paths.get(FrameworkConfig.parallelProfileFile());
+        Properties profiles = read();
+        profiles.setProperty(profile + ".threads", String.valueOf(threads));
+        profiles.setProperty(profile + ".tests.per.minute", String.format(Locale.ROOT, "%.2f", testsPerMinute));
+        profiles.setProperty(profile + ".calibrated", Instant.now().toString());
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            // Write to a temp file and move it so concurrent runners never read a partial file
+            Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), "parallelism", ".tmp");
+            try (OutputStream stream = Files.newOutputStream(temp)) {
+                profiles.store(stream, "Falcon calibrated parallelism per machine profile");
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write parallelism profile " + file, e);
+        }
+    }
+
+    private static Properties read() {
+        Properties profiles = new Properties();
+        Path file = Paths.get(FrameworkConfig.parallelProfileFile());
+        if (Files.exists(file)) {
+            try (InputStream stream = Files.newInputStream(file)) {
+                profiles.load(stream);
+            } catch (IOException e) {
+                System.err.println("Ignoring unreadable parallelism profile " + file + ": " + e.getMessage());
+            }
+        }
+        return profiles;
+    }
+}
@@ -0,0 +1,59 @@
+package com.liftofftech.falcon.core.parallel;
+
+import org.testng.IDynamicGraph;
+import org.testng.ISuite;
+import org.testng.ITestNGMethod;
+import org.testng.internal.thread.DefaultThreadPoolExecutorFactory;
+import org.testng.internal.thread.graph.GraphThreadPoolExecutor;
+import org.testng.thread.IExecutorFactory;
+import org.testng.thread.ITestNGThreadPoolExecutor;
+import org.testng.thread.IThreadWorkerFactory;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TestNG executor factory that runs parallel test methods on virtual threads, so a worker
+ * blocked on a remote WebDriver call costs no platform thread. Scheduling (dependencies,
+ * priorities, thread count) is TestNG's own; only the worker threads differ. Suites use
+ * TestNG's default executor. On a runtime without virtual threads, methods run on the
+ * usual platform threads.
+ * <p>
+ * TestNG only accepts an executor factory programmatically or on its command line,
+ * which is what {@link VirtualThreadSuiteRunner} does.
+ * <p>
+ * TestNG 7.9 deprecates this extension point without a replacement, and the graph executor
+ * it needs lives in {@code org.testng.internal}. Both are confined to this class and the
+ * runner's one call; expect to revisit them when upgrading TestNG.
+ */
+@SuppressWarnings("deprecation")
+public class VirtualThreadExecutorFactory implements IExecutorFactory {
+
+    private final IExecutorFactory defaults = new DefaultThreadPoolExecutorFactory();
+
+    @Override
+    public ITestNGThreadPoolExecutor newSuiteExecutor(String name, IDynamicGraph<ISuite> graph,
+            IThreadWorkerFactory<ISuite> factory, int corePoolSize, int maximumPoolSize, long keepAliveTime,
+            TimeUnit unit, BlockingQueue<Runnable> workQueue, Comparator<ISuite> comparator) {
+        return defaults.newSuiteExecutor(name, graph, factory, corePoolSize, maximumPoolSize, keepAliveTime,
+                unit, workQueue, comparator);
+    }
+
+    @Override
+    public ITestNGThreadPoolExecutor newTestMethodExecutor(String name, IDynamicGraph<ITestNGMethod> graph,
+            IThreadWorkerFactory<ITestNGMethod> factory, int corePoolSize, int maximumPoolSize, long keepAliveTime,
+            TimeUnit unit, BlockingQueue<Runnable> workQueue, Comparator<ITestNGMethod> comparator) {
+        GraphThreadPoolExecutor<ITestNGMethod> executor = new GraphThreadPoolExecutor<>(name, graph, factory,
+                corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, comparator);
+        Optional<ThreadFactory> threads = VirtualThreads.factory("TestNG-vt-");
+        if (threads.isPresent()) {
+            executor.setThreadFactory(threads.get());
+        } else {
+            System.err.println("Virtual threads need Java 21+, running " + name + " on platform threads");
+        }
+        return executor;
+    }
+}
@@ -0,0 +1,48 @@
+package com.liftofftech.falcon.core.parallel;
+
+import org.testng.TestNG;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * Runs suites with test methods on virtual threads ({@link VirtualThreadExecutorFactory}).
+ * Sets {@code parallel.virtual.threads=true}, so that with {@code remote=true}
+ * {@link ParallelismAlterSuiteListener} sizes the suites to the total slots of the grid(s)
+ * rather than to what this machine could host: a worker waiting on the grid is a parked
+ * virtual thread, and the grids' slots become the only limit on concurrent sessions.
+ *
+ * <p>Run with {@code mvn test-compile exec:java -Pvirtual-threads -Dremote=true}, combined
+ * with a module or environment profile to pick the suite. Needs a Java 21+ runtime for
+ * virtual threads; older runtimes run the same suite on platform threads.</p>
+ */
+public final class VirtualThreadSuiteRunner {
+
+    private VirtualThreadSuiteRunner() {
+        // utility
+    }
+
+    // setExecutorFactory is deprecated with IExecutorFactory; see VirtualThreadExecutorFactory
+    @SuppressWarnings("deprecation")
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            throw new IllegalArgumentException("Usage: VirtualThreadSuiteRunner <suite.xml>...");
+        }
+        for (String suite : args) {
+            if (!Files.isRegularFile(Paths.get(suite))) {
+                throw new IllegalArgumentException("Suite not found: " + Paths.get(suite).toAbsolutePath());
+            }
+        }
+        System.setProperty("parallel.virtual.threads", "true");
+
+        TestNG testng = new TestNG();
+        testng.setTestSuites(Arrays.asList(args));
+        testng.setExecutorFactory(new VirtualThreadExecutorFactory());
+        testng.setOutputDirectory(Paths.get("target", "testng-virtual").toString());
+        testng.run();
+        if (testng.hasFailure() || testng.hasSkip()) {
+            throw new IllegalStateException("Suite finished with failures or skips (status " + testng.getStatus() + ")");
+        }
+    }
+}
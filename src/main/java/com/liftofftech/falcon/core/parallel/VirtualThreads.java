@@ -0,0 +1,31 @@
+package com.liftofftech.falcon.core.parallel;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to virtual threads without compiling against a JDK that has them. The framework
+ * targets Java 17; on a Java 21+ runtime the builder API is reached reflectively.
+ */
+final class VirtualThreads {
+
+    private VirtualThreads() {
+        // utility
+    }
+
+    /**
+     * Returns a factory for virtual threads named {@code prefix0}, {@code prefix1}, ...
+     *
+     * @return the factory, or empty when the runtime has no virtual threads
+     */
+    static Optional<ThreadFactory> factory(String prefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> ofVirtual = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            builder = ofVirtual.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+            return Optional.of((ThreadFactory) ofVirtual.getMethod("factory").invoke(builder));
+        } catch (ReflectiveOperationException e) {
+            return Optional.empty();
+        }
+    }
+}
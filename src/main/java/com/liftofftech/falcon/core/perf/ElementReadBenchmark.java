@@ -0,0 +1,100 @@
+package com.liftofftech.falcon.core.perf;
+
+import com.liftofftech.falcon.core.base.BasePage;
+import com.liftofftech.falcon.core.config.FrameworkConfig;
+import com.liftofftech.falcon.core.driver.DriverManager;
+import com.liftofftech.falcon.core.grid.EmbeddedGrid;
+import com.liftofftech.falcon.core.grid.EmbeddedGridMode;
+import com.liftofftech.falcon.core.utils.JsonUtils;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Compares reading a whole element collection per element (one WebDriver round trip per
+ * element and property) with the batched {@code BasePage} reads (one script call). Runs
+ * against a local browser, or a grid with {@code -Dremote=true} (an embedded one when
+ * {@code grid.embedded} is set). Results are printed and written to
+ * {@code target/benchmarks/element-reads.json}.
+ *
+ * <p>Run with {@code mvn test-compile exec:java -Pelement-read-benchmark}, optionally with
+ * {@code -Dbenchmark.url=...} (default {@code base.url}), {@code -Dbenchmark.list.selector=...}
+ * (CSS, or XPath when it starts with {@code /}) and {@code -Dbenchmark.iterations=...}.</p>
+ */
+public final class ElementReadBenchmark {
+
+    private static final String ATTRIBUTE = "class";
+
+    private ElementReadBenchmark() {
+        // utility
+    }
+
+    public static void main(String[] args) {
+        String url = args.length > 0 && !args[0].isBlank() ? args[0] : FrameworkConfig.baseUrl();
+        String selector = args.length > 1 && !args[1].isBlank() ? args[1] : "a";
+        By locator = selector.startsWith("/") ? By.xpath(selector) : By.cssSelector(selector);
+        int iterations = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+
+        if (FrameworkConfig.remoteExecution() && FrameworkConfig.gridEmbeddedMode() != EmbeddedGridMode.NONE) {
+            EmbeddedGrid.start();
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("target", FrameworkConfig.remoteExecution() ? "grid " + FrameworkConfig.gridUrls() : "local");
+        report.put("url", url);
+        report.put("locator", locator.toString());
+        report.put("iterations", iterations);
+        try {
+            WebDriver driver = DriverManager.initDriver();
+            driver.get(url);
+            BasePage page = new BenchmarkPage();
+            report.put("elements", driver.findElements(locator).size());
+
+            Map<String, Object> operations = new LinkedHashMap<>();
+            operations.put("texts", compare(iterations,
+                    () -> driver.findElements(locator).stream().map(WebElement::getText).count(),
+                    () -> page.getAllTexts(locator)));
+            operations.put("attributes", compare(iterations,
+                    () -> driver.findElements(locator).stream().map(element -> element.getAttribute(ATTRIBUTE)).count(),
+                    () -> page.getAllAttributes(locator, ATTRIBUTE)));
+            operations.put("snapshots", compare(iterations,
+                    () -> driver.findElements(locator).stream().map(element -> List.of(element.getText(),
+                            element.isDisplayed(), element.getRect(), String.valueOf(element.getAttribute(ATTRIBUTE)))).count(),
+                    () -> page.snapshotAll(locator, ATTRIBUTE)));
+            report.put("operations", operations);
+        } finally {
+            DriverManager.unload();
+            EmbeddedGrid.stop();
+        }
+
+        Path output = Paths.get("target", "benchmarks", "element-reads.json");
+        JsonUtils.write(output, report);
+        System.out.println("Element read benchmark written to " + output.toAbsolutePath());
+    }
+
+    private static Map<String, Object> compare(int iterations, Supplier<?> perElement, Supplier<?> batched) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("perElement", LatencyStats.measure(iterations, () -> {
+            perElement.get();
+            return true;
+        }));
+        result.put("batched", LatencyStats.measure(iterations, () -> {
+            batched.get();
+            return true;
+        }));
+        System.out.println(result);
+        return result;
+    }
+
+    /**
+     * Gives the benchmark the page-object reads without a real page.
+     */
+    private static final class BenchmarkPage extends BasePage {
+    }
+}
@@ -0,0 +1,90 @@
+package com.liftofftech.falcon.core.perf;
+
+import com.liftofftech.falcon.core.config.FrameworkConfig;
+import com.liftofftech.falcon.core.driver.DriverManager;
+import com.liftofftech.falcon.core.driver.FastReads;
+import com.liftofftech.falcon.core.grid.EmbeddedGrid;
+import com.liftofftech.falcon.core.grid.EmbeddedGridMode;
+import com.liftofftech.falcon.core.utils.JsonUtils;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Compares per-call latency of the DevTools fast path ({@link FastReads}) with plain WebDriver
+ * for the reads {@code BasePage} routes through it. Runs against a local browser, or a grid
+ * with {@code -Dremote=true} (an embedded one when {@code grid.embedded} is set).
+ * Results are printed and written to {@code target/benchmarks/fast-reads.json}.
+ *
+ * <p>Run with {@code mvn test-compile exec:java -Pfast-read-benchmark}, optionally with
+ * {@code -Dbenchmark.url=...} (default {@code base.url}), {@code -Dbenchmark.selector=...}
+ * and {@code -Dbenchmark.iterations=...}.</p>
+ */
+public final class FastReadBenchmark {
+
+    private FastReadBenchmark() {
+        // utility
+    }
+
+    public static void main(String[] args) {
+        String url = args.length > 0 && !args[0].isBlank() ? args[0] : FrameworkConfig.baseUrl();
+        By locator = By.cssSelector(args.length > 1 ? args[1] : "body");
+        int iterations = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+        System.setProperty("fast.reads", "true");
+
+        if (FrameworkConfig.remoteExecution() && FrameworkConfig.gridEmbeddedMode() != EmbeddedGridMode.NONE) {
+            EmbeddedGrid.start();
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("target", FrameworkConfig.remoteExecution() ? "grid " + FrameworkConfig.gridUrls() : "local");
+        report.put("url", url);
+        report.put("locator", locator.toString());
+        report.put("iterations", iterations);
+        try {
+            WebDriver driver = DriverManager.initDriver();
+            driver.get(url);
+            JavascriptExecutor js = (JavascriptExecutor) driver;
+
+            Map<String, Object> operations = new LinkedHashMap<>();
+            operations.put("getText", compare(iterations,
+                    () -> driver.findElement(locator).getText(),
+                    () -> FastReads.text(driver, locator)));
+            operations.put("getElementCount", compare(iterations,
+                    () -> driver.findElements(locator).size(),
+                    () -> FastReads.count(driver, locator)));
+            operations.put("getScrollPosition", compare(iterations,
+                    () -> js.executeScript("return window.pageYOffset;"),
+                    () -> FastReads.number(driver, "window.pageYOffset")));
+            report.put("operations", operations);
+        } finally {
+            DriverManager.unload();
+            EmbeddedGrid.stop();
+        }
+
+        Path output = Paths.get("target", "benchmarks", "fast-reads.json");
+        JsonUtils.write(output, report);
+        System.out.println("Fast read benchmark written to " + output.toAbsolutePath());
+    }
+
+    private static Map<String, Object> compare(int iterations, Supplier<?> webDriver, Supplier<Optional<?>> fast) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("webdriver", LatencyStats.measure(iterations, () -> {
+            webDriver.get();
+            return true;
+        }));
+        if (fast.get().isEmpty()) {
+            result.put("devtools", "unavailable");
+        } else {
+            result.put("devtools", LatencyStats.measure(iterations, () -> fast.get().isPresent()));
+        }
+        System.out.println(result);
+        return result;
+    }
+}
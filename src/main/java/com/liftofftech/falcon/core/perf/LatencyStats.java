@@ -0,0 +1,49 @@
+package com.liftofftech.falcon.core.perf;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Latency sampling shared by the benchmarks.
+ */
+final class LatencyStats {
+
+    private static final int WARMUP = 20;
+
+    private LatencyStats() {
+        // utility
+    }
+
+    /**
+     * Times the call and returns p50, p95 and mean latency in milliseconds, plus the number
+     * of calls that returned false.
+     */
+    static Map<String, Object> measure(int iterations, Supplier<Boolean> call) {
+        for (int i = 0; i < WARMUP; i++) {
+            call.get();
+        }
+        long[] nanos = new long[iterations];
+        int failures = 0;
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            if (!call.get()) {
+                failures++;
+            }
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("p50Ms", millis(nanos[iterations / 2]));
+        stats.put("p95Ms", millis(nanos[(int) Math.min(iterations - 1, Math.ceil(iterations * 0.95) - 1)]));
+        stats.put("meanMs", millis(Arrays.stream(nanos).sum() / iterations));
+        stats.put("fallbacks", failures);
+        return stats;
+    }
+
+    static double millis(long nanos) {
+        return Double.parseDouble(String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0));
+    }
+}
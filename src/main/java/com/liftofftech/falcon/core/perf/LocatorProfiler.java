@@ -0,0 +1,214 @@
+package com.liftofftech.falcon.core.perf;
+
+import com.liftofftech.falcon.core.base.BasePage;
+import com.liftofftech.falcon.core.config.FrameworkConfig;
+import com.liftofftech.falcon.core.driver.DriverManager;
+import com.liftofftech.falcon.core.driver.XPathToCss;
+import com.liftofftech.falcon.core.grid.EmbeddedGrid;
+import com.liftofftech.falcon.core.grid.EmbeddedGridMode;
+import com.liftofftech.falcon.core.utils.JsonUtils;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Ranks the locators of page-object classes by how long the browser takes to evaluate them.
+ * For every class it loads the page (through the class's no-argument {@code navigateTo*}
+ * method, or a URL given as {@code Class@url}), then times every {@code public static By}
+ * field inside the page in one script call. XPath locators that {@link XPathToCss} can
+ * translate are timed as CSS too, and the two forms are compared element by element on the
+ * loaded page; equivalent translations are printed as ready-to-paste {@code By.cssSelector}
+ * declarations. {@code locator.compile.css=true} applies the translations at run time instead.
+ * Results are written to {@code target/benchmarks/locator-profile.json}.
+ *
+ * <p>Run with {@code mvn test-compile exec:java -Plocator-profile
+ * -Dlocator.profile.classes=com.liftofftech.falcon.pages.image.AiImageGenerator}, optionally
+ * with {@code -Dbenchmark.iterations=...}. Locators that only match after user actions
+ * (dialogs, results) are reported with 0 matches and their CSS form left unverified.</p>
+ */
+public final class LocatorProfiler {
+
+    private static final long BUDGET_MS_PER_LOCATOR = 250;
+
+    // Evaluates each locator up to `iterations` times (or until its time budget is spent) and
+    // reports the mean cost of one evaluation; a batch mean is used because performance.now()
+    // is too coarse to time a single evaluation.
+    private static final String PROFILE =
+        "const entries = arguments[0], iterations = arguments[1], budget = arguments[2];" +
+        "const find = (using, value) => { if (using === 'css selector') return Array.from(document.querySelectorAll(value));" +
+        "  const r = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+        "  const a = []; for (let i = 0; i < r.snapshotLength; i++) a.push(r.snapshotItem(i)); return a; };" +
+        "const time = (using, value) => { let matches = find(using, value), runs = 0; const start = performance.now();" +
+        "  while (runs < iterations && (runs === 0 || performance.now() - start < budget)) { matches = find(using, value); runs++; }" +
+        "  return { meanUs: (performance.now() - start) * 1000 / runs, runs: runs, matches: matches }; };" +
+        "return entries.map(e => { const out = {};" +
+        "  try { const t = time(e.using, e.value); out.meanUs = t.meanUs; out.runs = t.runs; out.matches = t.matches.length;" +
+        "    if (e.css) { const c = time('css selector', e.css); out.cssMeanUs = c.meanUs;" +
+        "      out.check = t.matches.length === 0 && c.matches.length === 0 ? 'no-matches'" +
+        "        : c.matches.length === t.matches.length && c.matches.every((n, i) => n === t.matches[i]) ? 'same-elements' : 'different-elements'; }" +
+        "  } catch (err) { out.error = String(err); }" +
+        "  return out; });";
+
+    private LocatorProfiler() {
+        // utility
+    }
+
+    public static void main(String[] args) {
+        if (args.length == 0 || args[0].isBlank()) {
+            throw new IllegalArgumentException("Usage: LocatorProfiler <PageClass[@url],...> [iterations]");
+        }
+        List<String> targets = Arrays.asList(args[0].trim().split("\\s*,\\s*"));
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+
+        if (FrameworkConfig.remoteExecution() && FrameworkConfig.gridEmbeddedMode() != EmbeddedGridMode.NONE) {
+            EmbeddedGrid.start();
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("target", FrameworkConfig.remoteExecution() ? "grid " + FrameworkConfig.gridUrls() : "local");
+        report.put("iterations", iterations);
+        Map<String, Object> pages = new LinkedHashMap<>();
+        try {
+            WebDriver driver = DriverManager.initDriver();
+            for (String target : targets) {
+                String[] classAndUrl = target.split("@", 2);
+                Class<?> pageClass = Class.forName(classAndUrl[0]);
+                String url = open(driver, pageClass, classAndUrl.length == 2 ? classAndUrl[1] : null);
+                List<Map<String, Object>> rows = profile(driver, pageClass, iterations);
+                print(pageClass, url, rows);
+                pages.put(pageClass.getName(), Map.of("url", url, "locators", rows));
+            }
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("Page class not found (run mvn test-compile first): " + e.getMessage(), e);
+        } finally {
+            DriverManager.unload();
+            EmbeddedGrid.stop();
+        }
+        report.put("pages", pages);
+
+        Path output = Paths.get("target", "benchmarks", "locator-profile.json");
+        JsonUtils.write(output, report);
+        System.out.println("Locator profile written to " + output.toAbsolutePath());
+    }
+
+    /**
+     * Loads the page for a page-object class and waits for the document to finish loading.
+     *
+     * @return the URL that was profiled
+     */
+    private static String open(WebDriver driver, Class<?> pageClass, String url) {
+        Optional<Method> navigate = Arrays.stream(pageClass.getMethods())
+            .filter(method -> method.getName().startsWith("navigateTo") && method.getParameterCount() == 0)
+            .min(Comparator.comparing(Method::getName));
+        if (url != null || navigate.isEmpty() || !BasePage.class.isAssignableFrom(pageClass)) {
+            driver.get(url != null ? url : FrameworkConfig.baseUrl());
+        } else {
+            try {
+                navigate.get().invoke(pageClass.getConstructor().newInstance());
+            } catch (InvocationTargetException e) {
+                throw new IllegalStateException("Could not open " + pageClass.getSimpleName() + " via "
+                    + navigate.get().getName(), e.getCause());
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(pageClass.getSimpleName() + " needs a public no-argument constructor,"
+                    + " or pass its URL as " + pageClass.getName() + "@https://...", e);
+            }
+        }
+        new WebDriverWait(driver, FrameworkConfig.pageLoadTimeout()).until(d ->
+            "complete".equals(((JavascriptExecutor) d).executeScript("return document.readyState;")));
+        return driver.getCurrentUrl();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> profile(WebDriver driver, Class<?> pageClass, int iterations) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        List<Map<String, Object>> entries = new ArrayList<>();
+        for (Field field : pageClass.getFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) || !By.class.isAssignableFrom(field.getType())) {
+                continue;
+            }
+            By locator;
+            try {
+                locator = (By) field.get(null);
+            } catch (IllegalAccessException e) {
+                continue;
+            }
+            if (!(locator instanceof By.Remotable)) {
+                continue;
+            }
+            By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+            String value = String.valueOf(parameters.value());
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("using", parameters.using());
+            entry.put("value", value);
+            if ("xpath".equals(parameters.using())) {
+                XPathToCss.compile(value).ifPresent(css -> entry.put("css", css));
+            }
+            entries.add(entry);
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("field", field.getName());
+            row.put("locator", locator.toString());
+            rows.add(row);
+        }
+
+        List<Map<String, Object>> results = (List<Map<String, Object>>) ((JavascriptExecutor) driver)
+            .executeScript(PROFILE, entries, iterations, BUDGET_MS_PER_LOCATOR);
+        for (int i = 0; i < rows.size(); i++) {
+            Map<String, Object> row = rows.get(i);
+            Map<String, Object> result = results.get(i);
+            row.put("matches", result.get("matches"));
+            row.put("meanUs", round(result.get("meanUs")));
+            row.put("evaluations", result.get("runs"));
+            if (entries.get(i).containsKey("css")) {
+                row.put("css", entries.get(i).get("css"));
+                row.put("cssMeanUs", round(result.get("cssMeanUs")));
+                row.put("cssCheck", result.get("check"));
+            }
+            if (result.containsKey("error")) {
+                row.put("error", result.get("error"));
+            }
+        }
+        rows.sort(Comparator.comparingDouble((Map<String, Object> row) ->
+            row.get("meanUs") == null ? -1.0 : (Double) row.get("meanUs")).reversed());
+        return rows;
+    }
+
+    private static void print(Class<?> pageClass, String url, List<Map<String, Object>> rows) {
+        System.out.println();
+        System.out.println(pageClass.getSimpleName() + " (" + url + "), most expensive first:");
+        System.out.printf(Locale.ROOT, "%-40s %10s %8s %10s  %s%n", "locator", "mean us", "matches", "css us", "css check");
+        for (Map<String, Object> row : rows) {
+            System.out.printf(Locale.ROOT, "%-40s %10s %8s %10s  %s%n", row.get("field"),
+                row.containsKey("error") ? "error" : row.get("meanUs"), row.getOrDefault("matches", "-"),
+                row.getOrDefault("cssMeanUs", "-"), row.containsKey("error") ? row.get("error") : row.getOrDefault("cssCheck", ""));
+        }
+        List<Map<String, Object>> equivalent = rows.stream()
+            .filter(row -> "same-elements".equals(row.get("cssCheck")))
+            .collect(Collectors.toList());
+        if (!equivalent.isEmpty()) {
+            System.out.println("CSS equivalents verified on this page:");
+            equivalent.forEach(row -> System.out.println("    public static final By " + row.get("field")
+                + " = By.cssSelector(" + JsonUtils.toJson(row.get("css")) + ");"));
+        }
+    }
+
+    private static Double round(Object micros) {
+        return micros == null ? null : Math.round(((Number) micros).doubleValue() * 10) / 10.0;
+    }
+}
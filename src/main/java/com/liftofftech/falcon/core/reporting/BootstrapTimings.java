@@ -0,0 +1,48 @@
+package com.liftofftech.falcon.core.reporting;
+
+import io.qameta.allure.Allure;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-thread latency of the session bootstrap stages of the current test
+ * (driver spawn, session create, first navigation). Each stage is recorded as a
+ * {@code session.bootstrap.*} metric right away and attached to the test's Allure
+ * result by {@link #publish()}.
+ */
+public final class BootstrapTimings {
+
+    private static final ThreadLocal<Map<String, Long>> STAGES = ThreadLocal.withInitial(LinkedHashMap::new);
+
+    private BootstrapTimings() {
+        // utility
+    }
+
+    /**
+     * Starts a new bootstrap on the current thread, dropping stages of the previous test.
+     */
+    public static void begin() {
+        STAGES.get().clear();
+    }
+
+    public static void record(String stage, long nanos) {
+        STAGES.get().merge(stage, nanos, Long::sum);
+        ExecutionMetrics.recordTime("session.bootstrap." + stage, nanos);
+    }
+
+    public static long recorded(String stage) {
+        return STAGES.get().getOrDefault(stage, 0L);
+    }
+
+    /**
+     * Adds the recorded stages as Allure parameters of the running test. The parameters are
+     * excluded from the test's history id, so varying timings do not split its history.
+     */
+    public static void publish() {
+        Map<String, Long> stages = STAGES.get();
+        stages.forEach((stage, nanos) ->
+                Allure.parameter("bootstrap." + stage + ".ms", Math.round(nanos / 1_000_000.0), true));
+        stages.clear();
+    }
+}
@@ -0,0 +1,149 @@
+package com.liftofftech.falcon.core.reporting;
+
+import com.liftofftech.falcon.core.config.FrameworkConfig;
+import com.liftofftech.falcon.core.utils.JsonUtils;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Lightweight, thread-safe registry for framework-level execution metrics
+ * (counters, timers and gauges). Values are printed and written to
+ * {@code metrics.output.file} when the execution finishes.
+ */
+public final class ExecutionMetrics {
+
+    private static final Map<String, LongAdder> COUNTERS = new ConcurrentHashMap<>();
+    private static final Map<String, Timer> TIMERS = new ConcurrentHashMap<>();
+    private static final Map<String, DoubleSupplier> GAUGES = new ConcurrentHashMap<>();
+
+    private ExecutionMetrics() {
+        // utility
+    }
+
+    public static void increment(String name) {
+        add(name, 1);
+    }
+
+    public static void add(String name, long delta) {
+        COUNTERS.computeIfAbsent(name, key -> new LongAdder()).add(delta);
+    }
+
+    public static long count(String name) {
+        LongAdder adder = COUNTERS.get(name);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    public static void recordTime(String name, long nanos) {
+        TIMERS.computeIfAbsent(name, key -> new Timer()).record(nanos);
+    }
+
+    public static void recordTime(String name, Duration duration) {
+        recordTime(name, duration.toNanos());
+    }
+
+    /**
+     * Runs the supplier and records its wall-clock duration under the given timer name.
+     * The duration is recorded even if the supplier throws.
+     */
+    public static <T> T time(String name, Supplier<T> supplier) {
+        long start = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            recordTime(name, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Registers a gauge that is evaluated when metrics are reported.
+     * Registering the same name again replaces the previous supplier.
+     */
+    public static void gauge(String name, DoubleSupplier supplier) {
+        GAUGES.put(name, supplier);
+    }
+
+    /**
+     * Returns a point-in-time copy of every metric, sorted by name.
+     *
+     * @return map of metric name to value (long for counters, map for timers, double for gauges)
+     */
+    public static Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new TreeMap<>();
+        COUNTERS.forEach((name, adder) -> snapshot.put(name, adder.sum()));
+        TIMERS.forEach((name, timer) -> snapshot.put(name, timer.toMap()));
+        GAUGES.forEach((name, supplier) -> {
+            try {
+                snapshot.put(name, supplier.getAsDouble());
+            } catch (RuntimeException e) {
+                snapshot.put(name, Double.NaN);
+            }
+        });
+        return snapshot;
+    }
+
+    /**
+     * Clears counters and timers so the next report covers only what happens from now on,
+     * e.g. between runs of a long-lived daemon. Gauges are kept.
+     */
+    public static void reset() {
+        COUNTERS.clear();
+        TIMERS.clear();
+    }
+
+    /**
+     * Prints all metrics to stdout and writes them as JSON to the configured output file.
+     */
+    public static void report() {
+        Map<String, Object> snapshot = snapshot();
+        if (snapshot.isEmpty()) {
+            return;
+        }
+        System.out.println("===== Falcon execution metrics =====");
+        snapshot.forEach((name, value) -> System.out.println(name + " = " + value));
+
+        Path output = Paths.get(FrameworkConfig.metricsOutputFile());
+        try {
+            JsonUtils.write(output, snapshot);
+        } catch (RuntimeException e) {
+            System.err.println("Failed to write execution metrics: " + e.getMessage());
+        }
+    }
+
+    private static final class Timer {
+
+        private long count;
+        private long totalNanos;
+        private long minNanos = Long.MAX_VALUE;
+        private long maxNanos;
+
+        synchronized void record(long nanos) {
+            count++;
+            totalNanos += nanos;
+            minNanos = Math.min(minNanos, nanos);
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        synchronized Map<String, Object> toMap() {
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("count", count);
+            values.put("totalMs", toMillis(totalNanos));
+            values.put("avgMs", count == 0 ? 0.0 : toMillis(totalNanos / count));
+            values.put("minMs", count == 0 ? 0.0 : toMillis(minNanos));
+            values.put("maxMs", toMillis(maxNanos));
+            return values;
+        }
+
+        private static double toMillis(long nanos) {
+            return Math.round(nanos / 10_000.0) / 100.0;
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.liftofftech.falcon.core.utils;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 
 public final class JsonUtils {
@@ -28,5 +31,32 @@ public final class JsonUtils {
             throw new UncheckedIOException("Failed to parse JSON resource: " + resourcePath, e);
         }
     }
-}
 
+    public static JsonNode parse(String json) {
+        try {
+            return MAPPER.readTree(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to parse JSON", e);
+        }
+    }
+
+    public static String toJson(Object value) {
+        try {
+            return MAPPER.writeValueAsString(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize JSON", e);
+        }
+    }
+
+    public static void write(Path path, Object value) {
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), value);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write JSON file: " + path, e);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.liftofftech.falcon.core.utils;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Reads live host resource figures, preferring {@code /proc} on Linux and falling
+ * back to the JVM's operating-system MXBean elsewhere.
+ */
+public final class SystemResources {
+
+    private static final Path MEMINFO = Paths.get("/proc/meminfo");
+    private static final Path LOADAVG = Paths.get("/proc/loadavg");
+
+    private SystemResources() {
+        // utility
+    }
+
+    public static int cpuCount() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Returns memory available for new processes without swapping, in megabytes.
+     *
+     * @return available memory in MB, or -1 if unknown
+     */
+    public static long availableMemoryMb() {
+        long kb = readMeminfoKb("MemAvailable:");
+        if (kb >= 0) {
+            return kb / 1024;
+        }
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            return ((com.sun.management.OperatingSystemMXBean) os).getFreeMemorySize() / (1024 * 1024);
+        }
+        return -1;
+    }
+
+    /**
+     * Returns total physical memory in megabytes.
+     *
+     * @return total memory in MB, or -1 if unknown
+     */
+    public static long totalMemoryMb() {
+        long kb = readMeminfoKb("MemTotal:");
+        if (kb >= 0) {
+            return kb / 1024;
+        }
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            return ((com.sun.management.OperatingSystemMXBean) os).getTotalMemorySize() / (1024 * 1024);
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the one-minute load average.
+     *
+     * @return load average, or -1 if unknown
+     */
+    public static double loadAverage() {
+        if (Files.isReadable(LOADAVG)) {
+            try {
+                String content = Files.readString(LOADAVG).trim();
+                return Double.parseDouble(content.split("\\s+")[0]);
+            } catch (IOException | RuntimeException e) {
+                // fall through to the MXBean
+            }
+        }
+        return ManagementFactory.getOperatingSystemMXBean().getSystemLoadAverage();
+    }
+
+    /**
+     * Returns the resident set size of a process (Linux only).
+     *
+     * @param pid process id
+     * @return resident memory in KB, or -1 if unknown
+     */
+    public static long residentMemoryKb(long pid) {
+        Path status = Paths.get("/proc", String.valueOf(pid), "status");
+        if (!Files.isReadable(status)) {
+            return -1;
+        }
+        try {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.substring("VmRSS:".length()).trim().split("\\s+")[0]);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // process exited or unreadable
+        }
+        return -1;
+    }
+
+    private static long readMeminfoKb(String key) {
+        if (!Files.isReadable(MEMINFO)) {
+            return -1;
+        }
+        try {
+            List<String> lines = Files.readAllLines(MEMINFO);
+            for (String line : lines) {
+                if (line.startsWith(key)) {
+                    return Long.parseLong(line.substring(key.length()).trim().split("\\s+")[0]);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // unknown
+        }
+        return -1;
+    }
+}
@@ -8,6 +8,7 @@ import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import com.liftofftech.falcon.core.base.BaseTest;
+import com.liftofftech.falcon.core.base.ViewportState;
 import com.liftofftech.falcon.core.driver.DriverManager;
 import com.liftofftech.falcon.pages.image.AiImageGenerator;
 import com.liftofftech.falcon.pages.auth.SignInPage;
@@ -555,13 +556,6 @@ public class ImageGeneratorFunctionalityTests extends BaseTest {
         // Verify we can scroll down
         page.scrollByPixels(300);
         
-        // Wait for scroll to complete
-        try {
-            Thread.sleep(300);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        
         long positionAfterScrollDown = page.getScrollPosition();
         System.out.println("Position after scrolling down 300px: " + positionAfterScrollDown);
         
@@ -573,24 +567,12 @@ public class ImageGeneratorFunctionalityTests extends BaseTest {
         // Scroll down more to ensure we're not at the top
         page.scrollByPixels(300);
         
-        try {
-            Thread.sleep(300);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        
         long positionAfterMoreScrollDown = page.getScrollPosition();
         System.out.println("Position after scrolling down 600px total: " + positionAfterMoreScrollDown);
         
         // Now scroll back up
         page.scrollByPixels(-400);
         
-        try {
-            Thread.sleep(300);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        
         long positionAfterScrollUp = page.getScrollPosition();
         System.out.println("Position after scrolling up 400px: " + positionAfterScrollUp);
         
@@ -602,12 +584,6 @@ public class ImageGeneratorFunctionalityTests extends BaseTest {
         // Verify we can scroll to top
         page.scrollByPixels(-1000); // Scroll up significantly
         
-        try {
-            Thread.sleep(300);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        
         long finalPosition = page.getScrollPosition();
         System.out.println("Final scroll position: " + finalPosition);
         
@@ -678,20 +654,21 @@ public class ImageGeneratorFunctionalityTests extends BaseTest {
             Thread.currentThread().interrupt();
         }
         
-        // Verify textarea is scrollable
-        boolean isScrollable = page.isElementScrollable(DESC_PROMPT);
+        // Read scrollability, initial scroll position and max scroll height of the textarea in one call
+        ViewportState textareaState = page.getViewportState(DESC_PROMPT);
+        boolean isScrollable = textareaState.elementScrollable();
         System.out.println("DESC_PROMPT is scrollable: " + isScrollable);
         
         Assert.assertTrue(isScrollable,
             "DESC_PROMPT textarea should be scrollable with long text. " +
             "Text length: " + testText.length() + ", Max length: " + maxLength);
         
-        // Get initial scroll position (should be at top = 0)
-        long initialScrollPosition = page.getElementScrollPosition(DESC_PROMPT);
+        // Initial scroll position (should be at top = 0)
+        long initialScrollPosition = textareaState.elementScrollTop();
         System.out.println("Initial scroll position in DESC_PROMPT: " + initialScrollPosition);
         
-        // Get max scroll height
-        long maxScrollHeight = page.getElementMaxScrollHeight(DESC_PROMPT);
+        // Max scroll height
+        long maxScrollHeight = textareaState.elementMaxScrollTop();
         System.out.println("Maximum scrollable height in DESC_PROMPT: " + maxScrollHeight);
         
         // Verify max scroll height is greater than 0 (content exceeds visible area)
@@ -776,13 +753,6 @@ public class ImageGeneratorFunctionalityTests extends BaseTest {
             System.out.println("Timeout waiting for paste to complete: " + e.getMessage());
         }
         
-        // Additional delay for React state propagation
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        
         // Verify text was pasted
         String actualText = page.getAttribute(DESC_PROMPT, "value");
         System.out.println("Actual text after paste: " + actualText);
@@ -800,13 +770,6 @@ public class ImageGeneratorFunctionalityTests extends BaseTest {
         // Paste additional text
         page.pasteText(DESC_PROMPT, additionalText);
         
-        // Wait for paste to complete
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        
         String textAfterSecondPaste = page.getAttribute(DESC_PROMPT, "value");
         System.out.println("Text after second paste: " + textAfterSecondPaste);
         
@@ -829,13 +792,6 @@ public class ImageGeneratorFunctionalityTests extends BaseTest {
         page.clearWithKeys(DESC_PROMPT);
         page.pasteText(DESC_PROMPT, longTextToPaste);
         
-        // Wait for paste to complete
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        
         String textAfterLongPaste = page.getAttribute(DESC_PROMPT, "value");
         System.out.println("Text length after long paste: " + textAfterLongPaste.length());
         
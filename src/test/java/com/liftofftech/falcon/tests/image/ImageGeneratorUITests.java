@@ -5,6 +5,7 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import com.liftofftech.falcon.core.base.BaseTest;
+import com.liftofftech.falcon.core.base.ViewportState;
 import com.liftofftech.falcon.pages.image.AiImageGenerator;
 import com.liftofftech.falcon.pages.auth.SignInPage;
 
@@ -519,12 +520,13 @@ public class ImageGeneratorUITests extends BaseTest {
         // Wait for page to load
         page.waitUntilVisible(IMAGE_DESC_HEADING);
         
-        // Get initial scroll position (should be at top)
-        long initialScrollPosition = page.getScrollPosition();
+        // Get initial scroll position (should be at top) and max scroll height in one read
+        ViewportState initialState = page.getViewportState();
+        long initialScrollPosition = initialState.scrollY();
         System.out.println("Initial scroll position: " + initialScrollPosition);
         
         // Verify page is scrollable (has content beyond viewport)
-        long maxScrollHeight = page.getMaxScrollHeight();
+        long maxScrollHeight = initialState.maxScrollY();
         System.out.println("Maximum scrollable height: " + maxScrollHeight);
         
         // On small screens or pages with enough content, maxScrollHeight should be > 0
@@ -534,13 +536,6 @@ public class ImageGeneratorUITests extends BaseTest {
         // Scroll down by a reasonable amount (e.g., 500 pixels)
         page.scrollByPixels(500);
         
-        // Wait a moment for scroll to complete
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        
         // Verify scroll position changed (scrolled down)
         long scrollAfterDown = page.getScrollPosition();
         System.out.println("Scroll position after scrolling down: " + scrollAfterDown);
@@ -551,13 +546,6 @@ public class ImageGeneratorUITests extends BaseTest {
         // Scroll back up
         page.scrollByPixels(-500);
         
-        // Wait a moment for scroll to complete
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        
         // Verify scroll position changed back (scrolled up)
         long scrollAfterUp = page.getScrollPosition();
         System.out.println("Scroll position after scrolling up: " + scrollAfterUp);